@@ -0,0 +1,53 @@
+package game.gui;
+
+import game.gui.utils.SpriteAtlas;
+import game.gui.utils.SpriteCache;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Asset baking step: packs all sprites of every cell size into one atlas image
+ * with an index of sub-rectangles, which are loaded by SpriteAtlas at runtime.
+ * Must be run again after a sprite is changed, e.g.
+ * java -cp out:resources game.gui.AtlasBaker resources/atlas
+ */
+public class AtlasBaker {
+
+    public static void main(String[] args) throws IOException {
+        var directory = Path.of(args.length > 0 ? args[0] : "resources" + SpriteAtlas.DIRECTORY);
+        Files.createDirectories(directory);
+        var paths = GameView.getSpritePaths();
+        var originals = new ArrayList<BufferedImage>(paths.size());
+        for (var path : paths) {
+            try (InputStream in = Objects.requireNonNull(AtlasBaker.class.getResourceAsStream(path), path)) {
+                originals.add(ImageIO.read(in));
+            }
+        }
+        int columns = (int) Math.ceil(Math.sqrt(paths.size()));
+        int rows = (paths.size() + columns - 1) / columns;
+        for (int size : SpriteAtlas.SIZES) {
+            var atlas = new BufferedImage(columns * size, rows * size, BufferedImage.TYPE_INT_ARGB);
+            var g = atlas.createGraphics();
+            var index = new StringBuilder();
+            for (int k = 0; k < paths.size(); k++) {
+                int x = k % columns * size;
+                int y = k / columns * size;
+                g.drawImage(SpriteCache.scale(originals.get(k), size), x, y, null);
+                index.append(x).append(' ').append(y).append(' ').append(size).append(' ').append(size)
+                        .append(' ').append(paths.get(k)).append('\n');
+            }
+            g.dispose();
+            ImageIO.write(atlas, "png", directory.resolve(SpriteAtlas.imageName(size)).toFile());
+            Files.writeString(directory.resolve(SpriteAtlas.indexName(size)), index, StandardCharsets.UTF_8);
+            System.out.printf("Baked %d sprites of size %d%n", paths.size(), size);
+        }
+    }
+}
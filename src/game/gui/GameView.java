@@ -2,12 +2,19 @@ package game.gui;
 
 import game.Main;
 import game.gui.board.BoardFrame;
+import game.gui.board.GameTable;
+import game.gui.hero.Ghost;
+import game.gui.hero.Pacman;
+import game.gui.utils.AssetLoader;
 import game.gui.utils.KeyPressedListener;
 import game.gui.utils.UIUtils;
 import game.logic.AppController;
+import game.logic.Direction;
 import game.logic.Utils;
+import game.logic.board.Tile;
 import game.logic.exception.AudioLoadingException;
 import game.logic.exception.ImageProcessingException;
+import game.logic.log.Logger;
 import game.logic.player.PlayersManager;
 
 import javax.imageio.ImageIO;
@@ -15,6 +22,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -23,6 +32,7 @@ import java.util.regex.Pattern;
  * Also implements singleton pattern
  */
 public class GameView {
+    private static final Logger log;
     // singleton
     private static GameView instance;
     private final AppController controller;
@@ -46,9 +56,10 @@ public class GameView {
 
     // block of static initialization
     static {
+        log = Logger.of(GameView.class);
         instance = null;
         MENU_AUDIO_FILE_LOCATION = "/audio/menu.wav";
-        CUTSCENE_AUDIO_FILE_LOCATION = "/audio/hints-back.wav";
+        CUTSCENE_AUDIO_FILE_LOCATION = "/audio/cutscene.wav";
         BUTTON_CLICK_SOUND_FILE_LOCATION = "/audio/button-click.wav";
         BACK_BUTTON_ICON_FILE_LOCATION = "/images/back.png";
         APP_ICON_LOCATION = "/images/logo.png";
@@ -100,9 +111,47 @@ public class GameView {
 
     public void openGame() {
         // TODO: generate map and set properties of it & and start it
+        AssetLoader.setProgressListener(percent -> SwingUtilities.invokeLater(() -> {
+            if (currentWindow instanceof MenuFrame) {
+                currentWindow.setTitle(percent < 100 ? "Menu (loading " + percent + "%)" : "Menu");
+            }
+        }));
+        AssetLoader.start(getSpritePaths(), soundPaths());
         currentWindow = MenuFrame.getInstance(this);            // first time becomes visible by itself
     }
 
+    /**
+     * @return pictures of all heroes, fruits & walls
+     */
+    public static List<String> getSpritePaths() {
+        var paths = new ArrayList<String>();
+        for (var picture : Pacman.Picture.values()) {
+            paths.add(picture.getPath());
+        }
+        for (var color : Ghost.Color.values()) {
+            paths.add(color.getFruitPath());
+            for (var direction : Direction.values()) {
+                paths.add(Ghost.IconManager.getPath(color, direction));
+            }
+        }
+        paths.add(Ghost.Color.DOT_PATH);
+        for (var tile : Tile.values()) {
+            if (GameTable.getTilePath(tile) != null) {
+                paths.add(GameTable.getTilePath(tile));
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Sounds shipped with the game, the board background music has no file yet
+     */
+    private static List<String> soundPaths() {
+        return List.of(MENU_AUDIO_FILE_LOCATION, BUTTON_CLICK_SOUND_FILE_LOCATION, CUTSCENE_AUDIO_FILE_LOCATION,
+                "/audio/chomp.wav", "/audio/death.wav", "/audio/heal-up.wav", "/audio/coins.wav",
+                "/audio/speedup.wav", "/audio/invisible.wav");
+    }
+
     public void backToMenu() {
         // TODO: backToMenu()
         SizeFrame.getInstance(this).setVisible(false);
@@ -129,8 +178,7 @@ public class GameView {
         try {
             UIUtils.playSound(CUTSCENE_AUDIO_FILE_LOCATION, true);
         } catch (AudioLoadingException e) {
-            System.out.println("WARNING: failed to set hints background music because of " +
-                    "AudioLoadingException: " + e.getMessage());
+            log.warn("Failed to set hints background music", e);
         }
     }
 
@@ -141,7 +189,7 @@ public class GameView {
         try {
             UIUtils.playSound(MENU_AUDIO_FILE_LOCATION, true);
         } catch (AudioLoadingException e) {
-            System.out.println("WARNING: failed to set menu background music: " + e.getMessage());
+            log.warn("Failed to set menu background music", e);
         }
         currentWindow = MenuFrame.getInstance(this);
         currentWindow.setVisible(true);
@@ -157,7 +205,7 @@ public class GameView {
         try {
             UIUtils.playSound(BoardFrame.GAME_BACKGROUND_AUDIO_FILE_LOCATION, true);
         } catch (AudioLoadingException e) {
-            System.out.println("Cannot play back music");
+            log.warn("Cannot play back music", e);
         }
         currentWindow.setVisible(true);
     }
@@ -166,8 +214,7 @@ public class GameView {
         try {
             UIUtils.playSound(BUTTON_CLICK_SOUND_FILE_LOCATION, false);
         } catch (AudioLoadingException ex) {
-            System.out.println("Cannot play button click sound because of AudioLoadingException: " +
-                    ex.getMessage());
+            log.warn("Cannot play button click sound", ex);
         }
     }
 
@@ -282,17 +329,17 @@ public class GameView {
         }
 
         void startNewGame() {
-            System.out.println("New game is starting...");
+            log.debug("New game is starting...");
             openSize();
         }
 
         void showHighScores() {
-            System.out.println("Look at high scores");
+            log.debug("Look at high scores");
             openScores();
         }
 
         void showHints() {
-            System.out.println("Look at hints");
+            log.debug("Look at hints");
             openHints();
         }
     }
@@ -323,14 +370,13 @@ public class GameView {
             try {
                 setAppIcon(this);
             } catch (ImageProcessingException e) {
-                System.out.println("WARNING: failed to set frame icon because of " +
-                        "ImageProcessingException: " + e.getMessage());
+                log.warn("Failed to set frame icon", e);
             }
 
             try {
                 add(backToMenuButton());
             } catch (ImageProcessingException e) {
-                System.out.println("Failed to add icon to 'go back to menu' button");
+                log.warn("Failed to add icon to 'go back to menu' button", e);
             }
         }
 
@@ -364,7 +410,7 @@ public class GameView {
                 btn.setFocusable(false);
             }
             btn.addMouseListener(new BackToMenuMouseListener());
-            System.out.println("back to menu button is added: " + btn);
+            log.debug("Back to menu button is added");
             return btn;
         }
     }
@@ -398,14 +444,13 @@ public class GameView {
             try {
                 setAppIcon(this);
             } catch (ImageProcessingException e) {
-                System.out.println("WARNING: failed to set frame icon because of " +
-                        "ImageProcessingException: " + e.getMessage());
+                log.warn("Failed to set frame icon", e);
             }
 
             try {
                 add(ScoresFrame.backToMenuButton());
             } catch (ImageProcessingException e) {
-                System.out.println("Failed to add icon to 'go back to menu' button");
+                log.warn("Failed to add icon to 'go back to menu' button", e);
             }
         }
 
@@ -564,8 +609,7 @@ public class GameView {
             try {
                 setAppIcon(this);
             } catch (ImageProcessingException e) {
-                System.out.println("WARNING: failed to set frame icon because of " +
-                        "ImageProcessingException: " + e.getMessage());
+                log.warn("Failed to set frame icon", e);
             }
         }
 
@@ -593,7 +637,7 @@ public class GameView {
 
         void play() {
             // TODO: impl
-            System.out.println("New game is starting...");
+            log.debug("New game is starting...");
             int height = Integer.parseInt(heightFld.getText());
             int width = Integer.parseInt(widthFld.getText());
             var manager = PlayersManager.getInstance();
@@ -602,7 +646,7 @@ public class GameView {
                 int res = JOptionPane.showConfirmDialog(this, "There is no player with" +
                         "this nickname. Do you want to create a new one?", "New Nickname", JOptionPane.YES_NO_OPTION);
                 if (res == JOptionPane.YES_OPTION) {
-                    System.out.println("Creating new player...");
+                    log.debug("Creating new player...");
                     manager.addPlayer(nickname);
                     setVisible(false);
                     GameView.getInstance().startNewGame(nickname, width, height);
@@ -683,12 +727,11 @@ public class GameView {
 
         @Override
         public void mouseClicked(MouseEvent e) {
-            System.out.println("Going back to menu");
+            log.debug("Going back to menu");
             try {
                 UIUtils.playSound(BUTTON_CLICK_SOUND_FILE_LOCATION, false);
             } catch (AudioLoadingException ex) {
-                System.out.println("Cannot play button click sound because of AudioLoadingException: " +
-                        ex.getMessage());
+                log.warn("Cannot play button click sound", ex);
             }
             GameView.getInstance().openMenu();
         }
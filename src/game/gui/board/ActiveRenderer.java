@@ -0,0 +1,163 @@
+package game.gui.board;
+
+import game.logic.jfr.TickPhaseEvent;
+import game.logic.metrics.Counter;
+import game.logic.metrics.Histogram;
+import game.logic.metrics.Metrics;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Active rendering of a board: a render thread draws whole frames at a target rate
+ * into a buffer strategy (page flipping where available, blitting otherwise)
+ * instead of waiting for Swing repaint. Frames follow their own deadlines,
+ * so neither the tick of the game nor waiting for the display changes the pacing. Walls never change during a game,
+ * so they are drawn once into a VolatileImage and copied to every frame
+ */
+class ActiveRenderer extends Canvas {
+    private static final Font MESSAGE_FONT;
+    private static final int OVERLAY_MARGIN;
+    private final BoardView view;
+    private final long framePeriod;         // nanoseconds
+    private volatile boolean isRunning;
+    private VolatileImage maze;
+    /**
+     * text drawn over the board, e.g. "You won!", null if there is no text
+     */
+    private volatile String message;
+    private volatile Color messageColor;
+    /**
+     * performance overlay, which is covered by the canvas, so it is drawn into the frames
+     */
+    private volatile MetricsOverlay overlay;
+    private final Histogram frameTime;
+    private final Counter frames;
+
+    static {
+        MESSAGE_FONT = new Font("Arial", Font.PLAIN, 48);
+        OVERLAY_MARGIN = 10;
+    }
+
+    /**
+     * @param fps target number of frames per second
+     */
+    ActiveRenderer(BoardView view, int fps) {
+        this.view = view;
+        framePeriod = TimeUnit.SECONDS.toNanos(1) / fps;
+        setIgnoreRepaint(true);
+        setBackground(Color.BLACK);
+        setBounds(view.getBounds());
+        frameTime = Metrics.histogram("render.frame");
+        frames = Metrics.counter("render.frames");
+    }
+
+    void setOverlay(MetricsOverlay overlay) {
+        this.overlay = overlay;
+    }
+
+    void setMessage(String text, Color color) {
+        messageColor = color;
+        message = text;
+    }
+
+    void start() {
+        isRunning = true;
+        var thread = new Thread(this::run, "renderer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        isRunning = false;
+    }
+
+    private void run() {
+        long nextFrame = System.nanoTime();
+        while (isRunning) {
+            render();
+            nextFrame += framePeriod;
+            long now = System.nanoTime();
+            if (now - nextFrame >= framePeriod) {
+                // missed frames are dropped, the next one keeps the phase of the deadlines
+                nextFrame += (now - nextFrame) / framePeriod * framePeriod;
+            }
+            LockSupport.parkNanos(nextFrame - now);
+        }
+    }
+
+    private void render() {
+        if (!isDisplayable() || getWidth() <= 0) {
+            return;
+        }
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createBufferStrategy(2);
+            return;
+        }
+        long start = System.nanoTime();
+        var event = new TickPhaseEvent(TickPhaseEvent.RENDER);
+        event.begin();
+        do {
+            do {
+                var g = strategy.getDrawGraphics();
+                try {
+                    drawFrame(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        event.commit();
+        frameTime.record(System.nanoTime() - start);
+        frames.increment();
+    }
+
+    private void drawFrame(Graphics g) {
+        drawMaze(g);
+        view.paintItems(g, new Rectangle(0, 0, getWidth(), getHeight()));
+        view.paintSprites(g);
+        var text = message;
+        if (text != null) {
+            g.setFont(MESSAGE_FONT);
+            g.setColor(messageColor);
+            var metrics = g.getFontMetrics();
+            g.drawString(text, (getWidth() - metrics.stringWidth(text)) / 2,
+                    (getHeight() + metrics.getAscent() - metrics.getDescent()) / 2);
+        }
+        var shownOverlay = overlay;
+        if (shownOverlay != null && shownOverlay.isShown()) {
+            var overlayGraphics = g.create(OVERLAY_MARGIN, OVERLAY_MARGIN,
+                    shownOverlay.getWidth(), shownOverlay.getHeight());
+            shownOverlay.paintOverlay(overlayGraphics);
+            overlayGraphics.dispose();
+        }
+    }
+
+    /**
+     * Copies the walls to the frame, draws them again if the video memory was lost
+     */
+    private void drawMaze(Graphics g) {
+        do {
+            int status = maze == null ? VolatileImage.IMAGE_INCOMPATIBLE
+                    : maze.validate(getGraphicsConfiguration());
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                maze = createVolatileImage(getWidth(), getHeight());
+                status = VolatileImage.IMAGE_RESTORED;
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                var mazeGraphics = maze.createGraphics();
+                mazeGraphics.setColor(Color.BLACK);
+                mazeGraphics.fillRect(0, 0, getWidth(), getHeight());
+                view.paintWalls(mazeGraphics, new Rectangle(0, 0, getWidth(), getHeight()));
+                mazeGraphics.dispose();
+            }
+            g.drawImage(maze, 0, 0, null);
+        } while (maze.contentsLost());
+    }
+}
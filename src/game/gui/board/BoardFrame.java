@@ -2,46 +2,68 @@ package game.gui.board;
 
 import game.gui.GameView;
 import game.gui.hero.Ghost;
+import game.gui.utils.AssetLoader;
 import game.gui.utils.KeyPressedListener;
 import game.gui.utils.UIUtils;
 import game.gui.hero.Pacman;
+import game.logic.ActorExecutor;
 import game.logic.AppController;
 import game.logic.Direction;
+import game.logic.GameListener;
+import game.logic.GameLoop;
+import game.logic.GameModel;
+import game.logic.Power;
 import game.logic.board.Cell;
+import game.logic.board.Fruit;
 import game.logic.exception.AudioLoadingException;
 import game.logic.exception.GameException;
 import game.logic.exception.ImageProcessingException;
+import game.logic.hero.GhostModel;
+import game.logic.log.Logger;
+import game.logic.metrics.Counter;
+import game.logic.metrics.Metrics;
 import game.logic.player.PlayersManager;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
-public class BoardFrame extends JFrame {
+/**
+ * Displays a game model and passes user input to it
+ */
+public class BoardFrame extends JFrame implements GameListener {
+    private static final Logger log;
     public final static String GAME_BACKGROUND_AUDIO_FILE_LOCATION;
-    private final Object gameMutex;
-    private final AtomicBoolean isRoundStarted;
-    private final Random random;
     private static ImageIcon pacmanLive;
     /**
      * horizontal
      */
     private Pacman pacman;
+    /**
+     * pacman of the previous round, whose death is still animated
+     */
+    private Pacman dyingPacman;
     public GhostCage ghostCage;
-    private JLabel pacmanLbl;
     private final JLabel winLoseLbl;
+    private final MetricsOverlay metricsOverlay;
     private static final int PACMAN_ICON_SIZE;
+    private static final int TICK_TIME;                 // milliseconds
+    /**
+     * every hero runs its own loop instead of the single game loop,
+     * enabled by -Dpacman.actors=true
+     */
+    private static final boolean USE_ACTORS;
+    /**
+     * frames are drawn by a render thread instead of Swing repaint,
+     * enabled by -Dpacman.active=true, the rate is set by -Dpacman.fps
+     */
+    private static final boolean ACTIVE_RENDERING;
+    private static final int TARGET_FPS;
     final int height;
     final int width;
     private final int frameHeight;
     private final int frameWidth;
     final int cellSize;
-    private int score;
-    private boolean isGameStarted;
-    private boolean isGameEnded;
-    private boolean isPaused;
     private JLabel scoreLbl;               // Score: lbl,       <name-lbl>
     /**
      * apple - double money
@@ -52,27 +74,35 @@ public class BoardFrame extends JFrame {
      * cherry - -1 ghost for 30 sec
      */
     private JLabel power;               // pman, pman...     power
-    private int lives;                  //
+    private volatile int lives;         // shown lives, changed on the event dispatch thread
     private final ArrayList<JLabel> liveLabels = new ArrayList<>(8);
     private final String nickname;
     private final GameTable table;
-    private JLabel stopWatch;
-    private final Object stopWatchMutex = new Object();
+    private final GameModel game;
+    private final GameLoop loop;                // null in the actor mode
+    private final ActorExecutor actors;         // null in the game loop mode
+    private final ActiveRenderer renderer;      // null in the passive rendering mode
+    private StopWatchLabel stopWatch;
+    /**
+     * frames of the passive rendering, the active renderer reports its own frames
+     * & the board view times the paints of passive frames
+     */
+    private final Counter frames;
 
     {
-        gameMutex = new Object();
-        isRoundStarted = new AtomicBoolean();
-        score = 0;
         lives = 0;
-        isGameStarted = false;
-        isGameEnded = false;
-        random = new Random();
+        frames = Metrics.counter("render.frames");
     }
 
     static {
+        log = Logger.of(BoardFrame.class);
         pacmanLive = UIUtils.loadIcon("/images/pacman/right.png");
         GAME_BACKGROUND_AUDIO_FILE_LOCATION = "/audio/game-back.wav";
         PACMAN_ICON_SIZE = 20;
+        TICK_TIME = 5;
+        USE_ACTORS = Boolean.getBoolean("pacman.actors");
+        ACTIVE_RENDERING = Boolean.getBoolean("pacman.active");
+        TARGET_FPS = Integer.getInteger("pacman.fps", 60);
         var resizedImage = pacmanLive.getImage()
                 .getScaledInstance(PACMAN_ICON_SIZE, PACMAN_ICON_SIZE, Image.SCALE_SMOOTH);
         pacmanLive = new ImageIcon(resizedImage);
@@ -93,18 +123,28 @@ public class BoardFrame extends JFrame {
         } else {
             cellSize = Cell.LARGE_SIZE;
         }
+        AssetLoader.prepareSize(cellSize);
 
         table = new GameTable(this);
+        game = new GameModel(table.getModel(), new Random());
+        game.setListener(this);
+        if (USE_ACTORS) {
+            log.info(() -> "Actor mode, virtual threads: " + ActorExecutor.isVirtual());
+            loop = null;
+            actors = new ActorExecutor();
+        } else {
+            loop = new GameLoop(TICK_TIME);
+            loop.add(game::step);
+            loop.setFrameListener(this::displayFrame);
+            actors = null;
+        }
 
         // frame
         addWindowListener(new GameView.PacmanWindowListener(this));
         addKeyListener(AppController.getInstance());
         setResizable(false);
         setLayout(null);
-        System.out.printf("""
-                width = %d
-                height = %d
-                """, width, height);
+        log.debug(() -> "Board " + width + "x" + height + ", cell size " + cellSize);
         frameHeight = height * cellSize + 100;
         frameWidth = width * cellSize;
         UIUtils.setFrameDimension(this,
@@ -113,17 +153,22 @@ public class BoardFrame extends JFrame {
         try {
             GameView.setAppIcon(this);
         } catch (ImageProcessingException e) {
-            System.out.println("Failed to set icon to board frame");
+            log.warn("Failed to set icon to board frame", e);
         }
         setTitle("Pacman - Game");
         getContentPane().setBackground(Color.BLACK);
 
         addLabelComponents();
+        metricsOverlay = new MetricsOverlay(ACTIVE_RENDERING);
+        metricsOverlay.setBounds(10, 10, 260, 120);
+        add(metricsOverlay);
+        getContentPane().setComponentZOrder(metricsOverlay, 0);
 
         addKeyListener((KeyPressedListener) e -> {
             switch (e.getKeyCode()) {
                 case 10 -> startNewRound();
                 case 80 -> pauseResume();
+                case 114 -> metricsOverlay.toggle();        // F3
             }
         });
 
@@ -132,250 +177,261 @@ public class BoardFrame extends JFrame {
         winLoseLbl.setHorizontalAlignment(SwingConstants.CENTER);
         winLoseLbl.setFont(new Font("Arial", Font.PLAIN, 48));
         add(winLoseLbl);
+        Component boardComponent = table.getView();
+        if (ACTIVE_RENDERING) {
+            renderer = new ActiveRenderer(table.getView(), TARGET_FPS);
+            // the canvas covers lightweight components, so the overlay is drawn into its frames
+            renderer.setOverlay(metricsOverlay);
+            table.getView().setDrawnByRenderer();
+            remove(table.getView());
+            add(renderer);
+            boardComponent = renderer;
+        } else {
+            renderer = null;
+        }
+        // the board is painted below all labels
+        getContentPane().setComponentZOrder(boardComponent, getContentPane().getComponentCount() - 1);
 
-        beginGameLoop();
+        game.prepareRound();
+        if (USE_ACTORS) {
+            actors.start(this::actTimers);
+        } else {
+            loop.start();
+        }
+        if (renderer != null) {
+            renderer.start();
+        }
     }
 
-    private void startNewRound() {
-        if (!isRoundStarted.get()) {
-            isRoundStarted.set(true);
-            synchronized (gameMutex) {
-                gameMutex.notify();
+    /**
+     * Loop of powers, ghost spawning & stopwatch in the actor mode
+     */
+    private int actTimers(long elapsedNanos) {
+        if (game.isOver()) {
+            // keep repainting till the last death is animated
+            if (renderer == null) {
+                flushFrame();
             }
-            winLoseLbl.setVisible(false);
+            return dyingPacman == null || dyingPacman.isDeathDisplayed() ? -1 : TICK_TIME;
+        }
+        game.advanceTimers(elapsedNanos);
+        game.resolveCollisions();
+        stopWatch.setTime(game.getTime());
+        if (renderer == null) {
+            flushFrame();
         }
+        return TICK_TIME;
     }
 
-    private void beginGameLoop() {
-        new Thread(() -> {
-            try {
-                do {
-
-                    prepareGhostCage();
-                    preparePacman();
-
-                    isRoundStarted.set(false);
-
-                    /*
-                     * Waiting while user starts the round by pressing Enter
-                     */
-                    synchronized (gameMutex) {
-                        gameMutex.wait();
-                    }
-                    removeOneLive();
-                    pacman.start();
-                    ghostCage.start();
-                    synchronized (stopWatchMutex) {
-                        stopWatchMutex.notify();
-                    }
-                    /*
-                     * Waiting till users ends the round by collecting all
-                     * points or dying from a ghost
-                     */
-                    synchronized (gameMutex) {
-                        gameMutex.wait();
-                    }
-                    if (table.allPointsCollected()) {
-                        displayWin();
-                        break;
-                    } else if (lives == 0) {
-                        displayLose();
-                        break;
-                    }
-                    clearGameBoard();
-                    // otherwise prepare for the next round
-                } while (lives > 0);
-            } catch (InterruptedException e) {
-                throw new GameException();
+    /**
+     * Moves all hero sprites to their actual positions
+     */
+    private void displayFrame(long elapsedNanos) {
+        if (dyingPacman != null) {
+            dyingPacman.display(elapsedNanos);
+            if (dyingPacman.isDeathDisplayed()) {
+                dyingPacman = null;
             }
-        }).start();
+        }
+        if (pacman != dyingPacman) {
+            pacman.display(elapsedNanos);
+        }
+        ghostCage.display(elapsedNanos);
+        stopWatch.setTime(game.getTime());
+        if (renderer == null) {
+            flushFrame();
+        }
     }
 
-    public void win() {
-        displayWin();
-        pause();
+    /**
+     * Repaints the changes of the frame at once, a frame is counted once
+     * however many Swing paints it takes & only if anything has changed
+     */
+    private void flushFrame() {
+        if (table.getView().flush()) {
+            frames.increment();
+        }
     }
 
-    private void clearGameBoard() {
-        // TODO: clear the board from ghosts and pacman
-        System.out.println("Clearing the board");
+    private void startNewRound() {
+        game.startRound();
     }
 
-    private void displayLose() {
-        displayWinLoseText("You lose!", Color.RED);
+    @Override
+    public void onRoundPrepared() {
+        preparePacman();
+        ghostCage = new GhostCage();
     }
 
-    private void displayWin() {
-        displayWinLoseText("You won!", Color.GREEN);
+    @Override
+    public void onRoundStarted() {
+        SwingUtilities.invokeLater(() -> winLoseLbl.setVisible(false));
+        if (renderer != null) {
+            renderer.setMessage(null, null);
+        }
     }
 
-    private void displayWinLoseText(String text, Color color) {
-        winLoseLbl.setText(text);
-        winLoseLbl.setForeground(color);
-        winLoseLbl.setVisible(true);
+    @Override
+    public void onGhostSpawned(GhostModel ghost) {
+        ghostCage.addGhost(ghost);
     }
 
-    private void removeOneLive() {
-        lives -= 1;
-        var lbl = liveLabels.get(lives);
-        lbl.setVisible(false);
+    @Override
+    public void onCellChanged(int i, int j) {
+        table.refreshCell(i, j);
     }
 
-    private void pauseResume() {
-        if (isRoundStarted.get()) {
-            if (isPaused) {
-                resume();
-            } else {
-                pause();
-            }
+    @Override
+    public void onChomp(boolean isEating) {
+        if (isEating) {
+            UIUtils.startChomp();
+        } else {
+            UIUtils.stopChomp();
         }
     }
 
-    private void resume() {
-        pacman.resume();
-        ghostCage.resume();
-        synchronized (stopWatchMutex) {
-            isPaused = false;
-            stopWatchMutex.notify();
-        }
+    @Override
+    public void onScoreChanged(int score) {
+        SwingUtilities.invokeLater(() -> scoreLbl.setText(String.valueOf(score)));
     }
 
-    private void pause() {
-        pacman.pause();
-        ghostCage.pause();
-        synchronized (stopWatchMutex) {
-            isPaused = true;
+    @Override
+    public void onLivesChanged(int lives) {
+        if (lives > this.lives) {
+            try {
+                UIUtils.playSound("/audio/heal-up.wav", false);
+            } catch (AudioLoadingException e) {
+                throw new GameException(e);
+            }
         }
+        SwingUtilities.invokeLater(() -> {
+            while (this.lives > lives) {
+                removeOneLive();
+            }
+            while (this.lives < lives) {
+                liveLabels.get(this.lives).setVisible(true);
+                this.lives += 1;
+            }
+        });
     }
 
-    public String getPlayNick() {
-        return nickname;
+    @Override
+    public void onFruitEaten(Fruit fruit) {
+        log.trace(() -> "Pacman has eaten " + fruit);
+        if (fruit == Fruit.APPLE) {
+            try {
+                UIUtils.playSound("/audio/coins.wav", false);
+            } catch (AudioLoadingException e) {
+                throw new GameException(e);
+            }
+        }
     }
 
-    public int getScore() {
-        return score;
+    @Override
+    public void onPowerAdded(Power power) {
+        SwingUtilities.invokeLater(() -> addPower(power.toString()));
+        switch (power) {
+            case SPEED_UP -> {
+                try {
+                    UIUtils.playSound("/audio/speedup.wav", false);
+                } catch (AudioLoadingException e) {
+                    throw new GameException(e);
+                }
+            }
+            case INVISIBLE -> UIUtils.startInvisibleSound("/audio/invisible.wav");
+        }
     }
 
-    private int getNumberOfGhosts() {
-        // TODO: respectively to width & height
-        int lambda = width * height;
-        if (lambda < 150) {
-            return 2;
-        }
-        if (lambda < 250) {
-            return 3;
-        }
-        if (lambda < 500) {
-            return 4;
-        }
-        if (lambda < 800) {
-            return 5;
+    @Override
+    public void onPowerRemoved(Power power) {
+        SwingUtilities.invokeLater(() -> removePower(power.toString()));
+        if (power == Power.INVISIBLE) {
+            UIUtils.stopInvisibleSound();
         }
-        if (lambda < 1500) {
-            return 6;
-        }
-        if (lambda < 3000) {
-            return 7;
-        }
-        if (lambda < 5000) {
-            return 8;
-        }
-        if (lambda < 8000) {
-            return 9;
-        }
-        return 10;
     }
 
-    public int getMaxPacmanSpeed() {
-        return pacman.getMaxSpeed();
+    @Override
+    public void onPacmanCaught() {
+        ghostCage.removeGhosts();
     }
 
-    public Point getPacmanCoordinates() {
-        return pacman.getCoordinates();
+    @Override
+    public void onPacmanDeath() {
+        dyingPacman = pacman;
+        pacman.die();
     }
 
-    private final AtomicInteger coinsMultiplier = new AtomicInteger(1);
-    private final Object doubleCoinsMutex = new Object();
-
-    public void doubleCoins() {
-        new Thread(() -> {
-            try {
-                synchronized (doubleCoinsMutex) {
-                    if (coinsMultiplier.get() == 1) {
-                        addPower("Double Coins");
-                    }
-                    coinsMultiplier.set(coinsMultiplier.get() * 2);
-                }
-                UIUtils.playSound("/audio/coins.wav", false);
-                Thread.sleep(18_000);
-                synchronized (doubleCoinsMutex) {
-                    coinsMultiplier.set(coinsMultiplier.get() / 2);
-                    if (coinsMultiplier.get() == 1) {
-                        removePower("Double Coins");
-                    }
-                }
-            } catch (Exception e) {
-                throw new GameException(e);
-            }
-        }).start();
+    @Override
+    public void onGameWon() {
+        displayWin();
     }
 
-    public void pacmenMoveToNextCell(int x, int y) {
-        System.out.println("Pacman moved to next cell");
-        Point point = table.getBoardCoordinates(x, y);
-        int points = table.eatPointAt(point.y, point.x) * coinsMultiplier.get();
-        // TODO: if double point power is on...
-        if (updateScore(points)) {
-            UIUtils.startChomp();
-        } else {
-            UIUtils.stopChomp();
-        }
+    @Override
+    public void onGameLost() {
+        displayLose();
     }
 
-    private void prepareGhostCage() {
-        var point = table.getCageCoordinates();
-        ghostCage = new GhostCage(point.x, point.y, getNumberOfGhosts());
+    private void displayLose() {
+        displayWinLoseText("You lose!", Color.RED);
     }
 
-    private void preparePacman() {
+    private void displayWin() {
+        displayWinLoseText("You won!", Color.GREEN);
+    }
 
-        // TODO: refactor pacman hero
-        pacmanLbl = new JLabel();
-        pacman = table.createPacman(pacmanLbl);
+    private void displayWinLoseText(String text, Color color) {
+        if (renderer != null) {
+            // the label would be covered by the canvas
+            renderer.setMessage(text, color);
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            winLoseLbl.setText(text);
+            winLoseLbl.setForeground(color);
+            winLoseLbl.setVisible(true);
+        });
+    }
 
+    private void removeOneLive() {
+        lives -= 1;
+        var lbl = liveLabels.get(lives);
+        lbl.setVisible(false);
     }
 
-    private boolean canMove(Direction direction, int i, int j) {
-        var d = pacman.getDirection();
-        boolean isLeftUpDirection = d == Direction.LEFT || d == Direction.UP;
-        switch (direction) {
-            case RIGHT -> {
-                if (!pacman.isExactlyInCell()) {
-                    j += 1;
-                }
-                return j < width && table.isFreeAt(i, j);
-            }
-            case LEFT -> {
-                if (!pacman.isExactlyInCell() && !isLeftUpDirection) {
-                    j -= 1;
-                }
-                return j >= 0 && table.isFreeAt(i, j);
-            }
-            case UP -> {
-                if (!pacman.isExactlyInCell() && !isLeftUpDirection) {
-                    i -= 1;
-                }
-                return i >= 0 && table.isFreeAt(i, j);
-            }
-            case DOWN -> {
-                if (!pacman.isExactlyInCell()) {
-                    i += 1;
+    private void pauseResume() {
+        if (game.isRoundStarted()) {
+            game.pauseResume();
+            if (actors != null) {
+                if (game.isPaused()) {
+                    actors.pause();
+                } else {
+                    actors.resume();
                 }
-                return i < height && table.isFreeAt(i, j);
             }
         }
+    }
+
+    public String getPlayNick() {
+        return nickname;
+    }
+
+    public int getScore() {
+        return game.getScore();
+    }
+
+    public GameModel getGame() {
+        return game;
+    }
 
-        throw new GameException();
+    public BoardView getBoardView() {
+        return table.getView();
+    }
+
+    private void preparePacman() {
+        pacman = new Pacman(game.getPacman(), cellSize, this);
+        if (actors != null) {
+            actors.start(pacman);
+        }
     }
 
     private void addLabelComponents() {
@@ -415,102 +471,13 @@ public class BoardFrame extends JFrame {
     }
 
     private void addStopWatch() {
-        stopWatch = new JLabel("00:00.0");
+        stopWatch = new StopWatchLabel();
         stopWatch.setBounds((frameWidth - 100) / 2, 20, 100, 30);
-        stopWatch.setHorizontalAlignment(SwingConstants.CENTER);
-        stopWatch.setForeground(Color.WHITE);
         add(stopWatch);
-        new Thread(() -> {
-            try {
-                synchronized (stopWatchMutex) {
-                    stopWatchMutex.wait();
-                }
-                while (true) {
-                    Thread.sleep(100);
-                    synchronized (stopWatchMutex) {
-                        if (isPaused) {
-                            System.out.println("STOPWATCH: waiting...");
-                            stopWatchMutex.wait();
-                        }
-                        String text = stopWatch.getText();
-                        String[] arr = text.split(":");
-                        int minutes = Integer.parseInt(arr[0]);
-                        int seconds = Integer.parseInt(arr[1].replace(".", ""));
-                        int time = minutes * 600 + seconds + 1;
-                        System.out.println("time = " + time);
-                        minutes = time / 600;
-                        time %= 600;
-                        int secs = time;
-                        String m = "" + minutes;
-                        m = m.length() == 1 ? "0" + m : m;
-                        String s = "" + secs / 10;
-                        s = s.length() == 1 ? "0" + s : s;
-                        String ms = ""  + secs % 10;
-                        System.out.printf("⌚ Update time: m = %s, s = %s, ms = %s\n", m, s, ms);
-                        stopWatch.setText(String.format("%s:%s.%s", m, s, ms));
-                    }
-                }
-            } catch (InterruptedException e) {
-                throw new GameException(e);
-            }
-        }).start();
     }
 
     public void changeDirection(Direction newDirection) {
-        synchronized (pacman.mutex) {
-            if (!isPaused && !isGameEnded) {
-                var pacmanDirection = pacman.getDirection();
-                System.out.println("Pacman's direction is " + pacmanDirection);
-                if (newDirection != pacmanDirection) {
-                    System.out.println("Direction is changing to " + newDirection);
-                    synchronized (pacman.mutex) {
-                        Point pacmanCoordinates = pacman.getCoordinates();
-                        System.out.println("pacmanCoordinates = " + pacmanCoordinates);
-                        var point = table.getBoardCoordinates(pacmanCoordinates.x, pacmanCoordinates.y);
-                        System.out.println("respective point on board: " + point);
-                        int j = point.x;
-                        int i = point.y;
-                        if (pacmanDirection.isOpposite(newDirection)) {
-                            System.out.println("Direction is opposite");
-                            pacman.setTarget(table.findTarget(newDirection, j, i));
-                            pacman.setOppositeDirection(newDirection);
-                            pacman.mutex.notify();
-                        } else {
-                            System.out.println("Direction is not opposite");
-                            if (!pacman.isExactlyInCell()) {
-                                switch (pacmanDirection) {
-                                    case RIGHT -> j += 1;
-                                    case DOWN -> i += 1;
-                                }
-                            }
-                            System.out.printf("Checking if pacman can move from point: i = %d, j = %d\n", i, j);
-                            if (canMove(newDirection, i, j)) {
-                                System.out.println("Change pacman direction and notify it");
-                                if (pacman.isFrozen()) {
-                                    pacman.setTarget(table.findTarget(newDirection, j, i));
-                                    pacman.setDirection(newDirection);
-                                } else {
-                                    pacman.setNewTarget(table.findTarget(newDirection, j, i));
-                                    pacman.setNewDirection(newDirection);
-                                }
-                                pacman.mutex.notify();
-                            } else {
-                                System.out.println("Can not move in that direction");
-                            }
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    public boolean updateScore(int toAdd) {
-        if (toAdd == 0) {
-            return false;
-        }
-        score += toAdd;
-        scoreLbl.setText(String.valueOf(score));
-        return true;
+        game.changeDirection(newDirection);
     }
 
     private void addLive() {
@@ -524,97 +491,18 @@ public class BoardFrame extends JFrame {
         ++lives;
     }
 
-    private final AtomicBoolean isInvisible = new AtomicBoolean();
-    private final AtomicInteger invisibleTimer = new AtomicInteger(0);
-
-    void playInvisibleSound() {
-        UIUtils.startInvisibleSound("/audio/invisible.wav");
-        new Thread(() -> {
-            try {
-                Thread.sleep(28_800);
-                while (true) {
-                    synchronized (invisibleTimer) {
-                        if (!isInvisible.get()) {
-                            UIUtils.stopInvisibleSound();
-                            return;
-                        }
-                    }
-                    Thread.sleep(100);
-                }
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }).start();
-    }
-
-    public void makePacmanInvisible() {
-        if (invisibleTimer.get() > 200) {
-            synchronized (invisibleTimer) {
-                invisibleTimer.set(invisibleTimer.get() + 28_900);
-            }
-        }
-        invisibleTimer.set(28_900);
-
-        new Thread(() -> {
-            synchronized (invisibleTimer) {
-                isInvisible.set(true);
-                addPower("Invisible");
-            }
-            playInvisibleSound();
-            while (invisibleTimer.get() > 0) {
-                synchronized (invisibleTimer) {
-                    invisibleTimer.set(invisibleTimer.get() - 50);
-                }
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    throw new GameException(e);
-                }
-            }
-            synchronized (invisibleTimer) {
-                isInvisible.set(false);
-                removePower("Invisible");
-            }
-        }).start();
-    }
-
-    public void killPacman() {
-        if (isInvisible.get()) {
-            return;
-        }
-        try {
-            UIUtils.stopChomp();
-            ghostCage.removeGhosts();
-            Thread.sleep(200);
-            UIUtils.stopChomp();
-            pacman.die();
-            // wait some time before next round
-            Thread.sleep(1000);
-            UIUtils.stopChomp();
-        } catch (InterruptedException e) {
-            throw new GameException(e);
-        }
-
-        synchronized (gameMutex) {
-            gameMutex.notify();
-        }
-    }
-
     public void endGame() {
         // TODO: actually en the game
-        synchronized (pacman.mutex) {
-            pacman.stop();
+        game.endGame();
+        if (actors != null) {
+            actors.shutdown();
+        } else {
+            loop.stop();
         }
-        PlayersManager.getInstance().updatePlayer(nickname, score);
-    }
-
-    public ArrayList<Direction> getAvailableDirectionsFrom(int x, int y) {
-        return table.possibleDirectionsFrom(x, y);
-    }
-
-    public void addFruit(Ghost.Color color, int x, int y) {
-        Point point = table.getBoardCoordinates(x, y);
-        table.addFruitAt(color, point.y, point.x);
+        if (renderer != null) {
+            renderer.stop();
+        }
+        PlayersManager.getInstance().updatePlayer(nickname, game.getScore());
     }
 
     private final ArrayList<String> powers = new ArrayList<>();
@@ -633,136 +521,27 @@ public class BoardFrame extends JFrame {
         }
     }
 
-    public void speedUpPacman() {
-        pacman.speedup();
-    }
-
-    public void addOneLive() {
-        if (lives < 5) {
-            try {
-                UIUtils.playSound("/audio/heal-up.wav", false);
-            } catch (AudioLoadingException e) {
-                throw new GameException(e);
-            }
-            liveLabels.get(lives).setVisible(true);
-            lives += 1;
-            System.out.printf("""
-                    ONE LIVE IS ADDED (lives count = %s)
-                    """, lives);
-        }
-    }
-
     /**
-     * Manages all Ghosts
+     * Displays all Ghosts
      */
     public class GhostCage {
         ArrayList<Ghost> ghosts = new ArrayList<>(10);
 
-        /**
-         * uses to add new ghost to the game
-         */
-        static final Deque<Ghost.Color> newGhostQueue;
-
-        public final Object spawnerMutex = new Object();
-        private final Object ghostQueueMutex = new Object();
-        int cageX;
-        int cageY;
-
-        final Deque<Ghost.Color> spawnQueue;
-
-        {
-            spawnQueue = new LinkedList<>();
-        }
-
-        static {
-            newGhostQueue = new LinkedList<>();
-            refillNewGhostQueue();
-        }
-
-        static void refillNewGhostQueue() {
-            ArrayList<Ghost.Color> list = new ArrayList<>() {{
-               addAll(Arrays.asList(Ghost.Color.values())) ;
-            }};
-            Collections.shuffle(list);
-            newGhostQueue.addAll(list);
-        }
-
-        /**
-         * (cage is drawn in GameTable)
-         * @param x - pixel coordinate of cage
-         * @param y - pixel coordinate of cage
-         */
-        GhostCage(int x, int y, int numberOfGhost) {
-            cageX = x;
-            cageY = y;
-            assert numberOfGhost > 0;
-            for (int k = 0; k < numberOfGhost; ++k) {
-                addGhostToSpawnQueue();
+        private void addGhost(GhostModel model) {
+            var ghost = new Ghost(model, cellSize, BoardFrame.this);
+            ghosts.add(ghost);
+            if (actors != null) {
+                actors.start(ghost);
             }
-            addNewGhost();
-        }
-
-        private void addNewGhost() {
-            var label = new JLabel();
-            label.setBounds(cageX, cageY, cellSize, cellSize);
-            add(label);
-            ghosts.add(new Ghost(spawnQueue.poll(), Direction.UP, cellSize, label, BoardFrame.this));
-        }
-
-        private void addGhostToSpawnQueue() {
-            if (newGhostQueue.isEmpty()) {
-                refillNewGhostQueue();
-            }
-            synchronized (ghostQueueMutex) {
-                spawnQueue.addLast(newGhostQueue.poll());
-                ghostQueueMutex.notify();
-            }
-        }
-
-        /**
-         * spawn ghosts in separate thread
-         */
-        private void startSpawnGhosts() {
-            new Thread(() -> {
-                try {
-                    while (!isGameEnded) {
-                        synchronized (spawnerMutex) {
-                            ghosts.get(ghosts.size() - 1).start();
-                            spawnerMutex.wait();                    // waiting the ghost to leave the cage
-                        }
-                        Thread.sleep(random.nextInt(200, 1000));
-                        // put new ghost in the cage
-                        synchronized (ghostQueueMutex) {
-                            if (spawnQueue.isEmpty()) {
-                                ghostQueueMutex.wait();                // waiting till new ghost is added to spawn queue
-                            }
-                            addNewGhost();
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    throw new GameException(e);
-                }
-            }).start();
-        }
-
-        public void start() {
-            System.out.println("Ghost cage started");
-            startSpawnGhosts();
-        }
-
-        public void pause() {
-            ghosts.forEach(Ghost::pause);
-            System.out.println("Pause " + ghosts.size() + " ghosts");
         }
 
-        public void resume() {
-            ghosts.forEach(Ghost::resume);
+        private void display(long elapsedNanos) {
+            ghosts.forEach(ghost -> ghost.display(elapsedNanos));
         }
 
         public void removeGhosts() {
-            System.out.println("Start removing ghosts");
-            ghosts.forEach(Ghost::endTheRound);
-            System.out.println(ghosts.size() + " removed from board");
+            ghosts.forEach(Ghost::disappear);
+            log.trace(() -> ghosts.size() + " ghosts are removed from board");
             ghosts.clear();
         }
     }
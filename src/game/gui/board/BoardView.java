@@ -0,0 +1,228 @@
+package game.gui.board;
+
+import game.gui.hero.Hero;
+import game.logic.board.Board;
+import game.logic.board.Tile;
+import game.logic.jfr.TickPhaseEvent;
+import game.logic.metrics.Histogram;
+import game.logic.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One component, which paints walls, dots & fruits of a board model from a tile atlas
+ * and heroes on top of them. Changes are collected as a dirty region during a tick
+ * and repainted once, and only cells inside the clip are painted,
+ * so a repaint costs as much as the region that has changed.
+ * Walls are pre-rendered into one layer, which is copied by a single draw,
+ * so only dots & fruits are painted cell by cell
+ */
+public class BoardView extends JComponent {
+    private static final long RATE_PERIOD;              // nanoseconds
+    /**
+     * repaint rate of the board which has been painted the latest, kept in static fields,
+     * so the metrics registry does not hold a board which is closed
+     */
+    private static volatile long lastPaintTime;
+    private static volatile long pixelsPerSecond;
+    private final Board board;
+    private final TileAtlas atlas;
+    private final int cellSize;
+    /**
+     * heroes in the painting order, the last one is on top
+     */
+    private final List<Hero> sprites;
+    private final DirtyRegion dirtyRegion;
+    /**
+     * the active renderer draws whole frames, so nothing has to be marked & repainted
+     */
+    private volatile boolean isDrawnByRenderer;
+    /**
+     * walls of the whole board, they never change after the maze is generated
+     */
+    private BufferedImage wallLayer;
+    // repainted pixels counter, used only by the event dispatch thread
+    private long rateStart;
+    private long ratePixels;
+    /**
+     * time of one Swing paint, which may be a part of a frame or caused by a label above the board
+     */
+    private final Histogram paintTime;
+    /**
+     * time of the paint which services a flush, i.e. of a passive frame
+     */
+    private final Histogram frameTime;
+    private volatile boolean isFramePending;
+
+    static {
+        RATE_PERIOD = TimeUnit.SECONDS.toNanos(1);
+        Metrics.gauge("render.pixels", BoardView::getRepaintedPixelsPerSecond);
+    }
+
+    {
+        sprites = new CopyOnWriteArrayList<>();
+        dirtyRegion = new DirtyRegion();
+        rateStart = System.nanoTime();
+        paintTime = Metrics.histogram("render.paint");
+        frameTime = Metrics.histogram("render.frame");
+    }
+
+    BoardView(Board board, TileAtlas atlas, int cellSize) {
+        this.board = board;
+        this.atlas = atlas;
+        this.cellSize = cellSize;
+        setOpaque(false);
+    }
+
+    public void addSprite(Hero hero) {
+        sprites.add(hero);
+    }
+
+    public void removeSprite(Hero hero) {
+        sprites.remove(hero);
+    }
+
+    /**
+     * Marks the cell [i][j] to be repainted after its content has changed
+     */
+    void repaintCell(int i, int j) {
+        markDirty(j * cellSize, i * cellSize, cellSize, cellSize);
+    }
+
+    /**
+     * Marks the rectangle to be repainted by the next flush
+     */
+    public void markDirty(int x, int y, int width, int height) {
+        if (!isDrawnByRenderer) {
+            dirtyRegion.add(x, y, width, height);
+        }
+    }
+
+    /**
+     * Repaints the union of everything marked since the previous flush, called once per tick
+     * @return whether a repaint is requested, i.e. a new frame will be displayed
+     */
+    public boolean flush() {
+        if (isDrawnByRenderer) {
+            return false;
+        }
+        var union = dirtyRegion.take();
+        if (union == null) {
+            return false;
+        }
+        isFramePending = true;
+        repaint(union);
+        return true;
+    }
+
+    /**
+     * Stops the dirty region tracking, the view is not shown & only its painting methods are used
+     */
+    void setDrawnByRenderer() {
+        isDrawnByRenderer = true;
+    }
+
+    /**
+     * @return number of pixels repainted during the last second
+     */
+    public static long getRepaintedPixelsPerSecond() {
+        return System.nanoTime() - lastPaintTime > RATE_PERIOD ? 0 : pixelsPerSecond;
+    }
+
+    /**
+     * Draws all walls into the wall layer, must be called once the maze is generated
+     */
+    void renderWalls() {
+        wallLayer = new BufferedImage(board.getWidth() * cellSize, board.getHeight() * cellSize,
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        var g = wallLayer.createGraphics();
+        for (int i = 0; i < board.getHeight(); i++) {
+            for (int j = 0; j < board.getWidth(); j++) {
+                var tile = board.isWallAt(i, j) ? board.getTileAt(i, j) : Tile.NONE;
+                if (tile != Tile.NONE) {
+                    atlas.draw(g, TileAtlas.slotOf(tile), j * cellSize, i * cellSize);
+                }
+            }
+        }
+        g.dispose();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        var clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        long start = System.nanoTime();
+        var event = new TickPhaseEvent(TickPhaseEvent.RENDER);
+        event.begin();
+        countRepainted(clip);
+        paintWalls(g, clip);
+        paintItems(g, clip);
+        paintSprites(g);
+        event.commit();
+        long duration = System.nanoTime() - start;
+        paintTime.record(duration);
+        if (isFramePending) {
+            isFramePending = false;
+            frameTime.record(duration);
+        }
+    }
+
+    /**
+     * Copies the area of the wall layer with a single draw
+     */
+    void paintWalls(Graphics g, Rectangle area) {
+        if (wallLayer == null) {
+            return;
+        }
+        int x2 = area.x + area.width;
+        int y2 = area.y + area.height;
+        g.drawImage(wallLayer, area.x, area.y, x2, y2, area.x, area.y, x2, y2, null);
+    }
+
+    /**
+     * Paints dots & fruits of the cells which intersect the area,
+     * empty cells are skipped by the bitsets of the board
+     */
+    void paintItems(Graphics g, Rectangle area) {
+        int firstRow = Math.max(0, area.y / cellSize);
+        int lastRow = Math.min(board.getHeight() - 1, (area.y + area.height - 1) / cellSize);
+        int firstColumn = Math.max(0, area.x / cellSize);
+        int lastColumn = Math.min(board.getWidth() - 1, (area.x + area.width - 1) / cellSize);
+        for (int i = firstRow; i <= lastRow; i++) {
+            int last = board.index(i, lastColumn);
+            for (int k = board.nextItemIndex(board.index(i, firstColumn));
+                 0 <= k && k <= last; k = board.nextItemIndex(k + 1)) {
+                paintItem(g, board.rowOf(k), board.columnOf(k));
+            }
+        }
+    }
+
+    void paintSprites(Graphics g) {
+        for (var hero : sprites) {
+            hero.paint(g);
+        }
+    }
+
+    private void countRepainted(Rectangle clip) {
+        long now = System.nanoTime();
+        ratePixels += (long) clip.width * clip.height;
+        lastPaintTime = now;
+        if (now - rateStart >= RATE_PERIOD) {
+            pixelsPerSecond = ratePixels * RATE_PERIOD / (now - rateStart);
+            ratePixels = 0;
+            rateStart = now;
+        }
+    }
+
+    private void paintItem(Graphics g, int i, int j) {
+        var fruit = board.getFruitAt(i, j);
+        atlas.draw(g, fruit != null ? TileAtlas.slotOf(fruit) : TileAtlas.DOT_SLOT, j * cellSize, i * cellSize);
+    }
+}
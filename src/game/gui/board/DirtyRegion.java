@@ -0,0 +1,44 @@
+package game.gui.board;
+
+import java.awt.*;
+
+/**
+ * Rectangles of a component which have changed during a tick.
+ * They are collected from any thread and then repainted at once as their union
+ */
+class DirtyRegion {
+    private int minX;
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    {
+        clear();
+    }
+
+    synchronized void add(int x, int y, int width, int height) {
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x + width);
+        maxY = Math.max(maxY, y + height);
+    }
+
+    /**
+     * @return union of all rectangles added since the previous call or null if nothing has changed
+     */
+    synchronized Rectangle take() {
+        if (minX >= maxX || minY >= maxY) {
+            return null;
+        }
+        var union = new Rectangle(minX, minY, maxX - minX, maxY - minY);
+        clear();
+        return union;
+    }
+
+    private void clear() {
+        minX = Integer.MAX_VALUE;
+        minY = Integer.MAX_VALUE;
+        maxX = Integer.MIN_VALUE;
+        maxY = Integer.MIN_VALUE;
+    }
+}
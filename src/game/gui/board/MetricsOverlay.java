@@ -0,0 +1,137 @@
+package game.gui.board;
+
+import game.logic.metrics.Counter;
+import game.logic.metrics.Histogram;
+import game.logic.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Performance overlay of a board, which is toggled by F3. Twice a second it reads
+ * the metrics registry and shows percentiles of tick & frame times, FPS,
+ * allocation rate and other values measured over the last period.
+ * With active rendering the overlay is not shown as a component, the renderer draws it
+ */
+class MetricsOverlay extends JComponent {
+    private static final int PERIOD;                    // milliseconds
+    private static final Font FONT;
+    private static final int LINE_HEIGHT;
+    private final Timer timer;
+    private final boolean isDrawnByRenderer;
+    private final Histogram tickTime;
+    private final Histogram frameTime;
+    private final Counter frames;
+    private Histogram.Snapshot lastTicks;
+    private Histogram.Snapshot lastFrames;
+    private long lastFrameCount;
+    private long lastAllocated;
+    private long lastUpdate;                            // nanoseconds
+    private volatile String[] lines;
+    private volatile boolean isShown;
+
+    static {
+        PERIOD = 500;
+        FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+        LINE_HEIGHT = 14;
+    }
+
+    {
+        tickTime = Metrics.histogram("loop.tick");
+        frameTime = Metrics.histogram("render.frame");
+        frames = Metrics.counter("render.frames");
+        lines = new String[0];
+        timer = new Timer(PERIOD, e -> update());
+        setVisible(false);
+    }
+
+    /**
+     * @param isDrawnByRenderer the board is drawn by the active renderer, which covers the component
+     */
+    MetricsOverlay(boolean isDrawnByRenderer) {
+        this.isDrawnByRenderer = isDrawnByRenderer;
+    }
+
+    void toggle() {
+        if (isShown) {
+            timer.stop();
+            isShown = false;
+        } else {
+            reset();
+            isShown = true;
+            timer.start();
+        }
+        setVisible(isShown && !isDrawnByRenderer);
+    }
+
+    boolean isShown() {
+        return isShown;
+    }
+
+    private void reset() {
+        lastTicks = tickTime.snapshot();
+        lastFrames = frameTime.snapshot();
+        lastFrameCount = frames.get();
+        lastAllocated = Metrics.read("jvm.allocated");
+        lastUpdate = System.nanoTime();
+    }
+
+    private void update() {
+        if (!isDisplayable()) {
+            // the board is closed
+            timer.stop();
+            return;
+        }
+        long now = System.nanoTime();
+        double seconds = (now - lastUpdate) / 1e9;
+        var ticks = tickTime.snapshot();
+        var frameTimes = frameTime.snapshot();
+        var tickPeriod = ticks.minus(lastTicks);
+        var framePeriod = frameTimes.minus(lastFrames);
+        long frameCount = frames.get();
+        long allocated = Metrics.read("jvm.allocated");
+        lines = new String[] {
+                String.format("FPS %.0f", (frameCount - lastFrameCount) / seconds),
+                String.format("tick  p50 %s p99 %s", millis(tickPeriod.getPercentile(0.5)),
+                        millis(tickPeriod.getPercentile(0.99))),
+                String.format("frame p50 %s p99 %s", millis(framePeriod.getPercentile(0.5)),
+                        millis(framePeriod.getPercentile(0.99))),
+                allocated < 0 ? "alloc n/a"
+                        : String.format("alloc %.1f MB/s", (allocated - lastAllocated) / seconds / 1e6),
+                String.format("threads %d actors %d", Metrics.read("jvm.threads"), Math.max(0, Metrics.read("actors"))),
+                String.format("voices %d underruns %d", Metrics.read("audio.voices"), Metrics.read("audio.underruns")),
+                String.format("repaint %d px/s", Metrics.read("render.pixels")),
+                String.format("sprites hits %d misses %d", Metrics.read("sprites.hits"), Metrics.read("sprites.misses"))
+        };
+        lastTicks = ticks;
+        lastFrames = frameTimes;
+        lastFrameCount = frameCount;
+        lastAllocated = allocated;
+        lastUpdate = now;
+        repaint();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        paintOverlay(g);
+    }
+
+    /**
+     * Paints the overlay at (0, 0) of the graphics, is also called by the active renderer
+     */
+    void paintOverlay(Graphics g) {
+        var text = lines;
+        g.setColor(new Color(0, 0, 0, 180));
+        g.fillRect(0, 0, getWidth(), getHeight());
+        g.setFont(FONT);
+        g.setColor(Color.GREEN);
+        for (int k = 0; k < text.length; k++) {
+            g.drawString(text[k], 6, (k + 1) * LINE_HEIGHT);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package game.gui.board;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HUD label of the game time "mm:ss.d". It is given the time of the model every frame,
+ * but repaints only when the shown tenth of a second changes, and the digits are
+ * written into a reused array, so the label allocates nothing while the game runs
+ */
+class StopWatchLabel extends JComponent {
+    private static final long TENTH;                    // nanoseconds
+    private final char[] text;
+    private int length;
+    /**
+     * tenths of a second which are shown
+     */
+    private volatile long tenths;
+
+    static {
+        TENTH = TimeUnit.MILLISECONDS.toNanos(100);
+    }
+
+    {
+        text = new char[20];
+        setFont(UIManager.getFont("Label.font"));
+        setForeground(Color.WHITE);
+    }
+
+    /**
+     * @param nanos game time, may be called by any thread
+     */
+    void setTime(long nanos) {
+        long newTenths = nanos / TENTH;
+        if (newTenths != tenths) {
+            tenths = newTenths;
+            repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        format(tenths);
+        g.setFont(getFont());
+        g.setColor(getForeground());
+        var metrics = g.getFontMetrics();
+        int x = (getWidth() - metrics.charsWidth(text, 0, length)) / 2;
+        int y = (getHeight() - metrics.getHeight()) / 2 + metrics.getAscent();
+        g.drawChars(text, 0, length, x, y);
+    }
+
+    /**
+     * Writes the time into the text, minutes have at least two digits
+     */
+    private void format(long tenths) {
+        long minutes = tenths / 600;
+        int seconds = (int) (tenths / 10 % 60);
+        int minuteDigits = Math.max(2, (int) Math.log10(Math.max(1, minutes)) + 1);
+        length = minuteDigits + 5;
+        for (int k = minuteDigits - 1; k >= 0; k--) {
+            text[k] = (char) ('0' + minutes % 10);
+            minutes /= 10;
+        }
+        text[minuteDigits] = ':';
+        text[minuteDigits + 1] = (char) ('0' + seconds / 10);
+        text[minuteDigits + 2] = (char) ('0' + seconds % 10);
+        text[minuteDigits + 3] = '.';
+        text[minuteDigits + 4] = (char) ('0' + tenths % 10);
+    }
+}
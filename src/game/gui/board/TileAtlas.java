@@ -0,0 +1,57 @@
+package game.gui.board;
+
+import game.logic.board.Fruit;
+import game.logic.board.Tile;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * All pictures of board cells (walls, dot & fruits) packed in one image,
+ * every picture takes a slot of cellSize x cellSize
+ */
+class TileAtlas {
+    static final int DOT_SLOT;
+    static final int SLOTS_COUNT;
+    private final BufferedImage image;
+    private final int cellSize;
+
+    static {
+        DOT_SLOT = Tile.values().length;
+        SLOTS_COUNT = DOT_SLOT + 1 + Fruit.values().length;
+    }
+
+    TileAtlas(int cellSize) {
+        this.cellSize = cellSize;
+        image = new BufferedImage(SLOTS_COUNT * cellSize, cellSize, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    static int slotOf(Tile tile) {
+        return tile.ordinal();
+    }
+
+    static int slotOf(Fruit fruit) {
+        return DOT_SLOT + 1 + fruit.ordinal();
+    }
+
+    /**
+     * Copies the icon to the slot, null leaves the slot empty
+     */
+    void put(int slot, Icon icon) {
+        if (icon == null) {
+            return;
+        }
+        var g = image.createGraphics();
+        icon.paintIcon(null, g, slot * cellSize, 0);
+        g.dispose();
+    }
+
+    /**
+     * Draws the picture of the slot with the top left corner at (x, y)
+     */
+    void draw(Graphics g, int slot, int x, int y) {
+        int sx = slot * cellSize;
+        g.drawImage(image, x, y, x + cellSize, y + cellSize, sx, 0, sx + cellSize, cellSize, null);
+    }
+}
@@ -1,60 +1,93 @@
 package game.gui.hero;
 
 import game.gui.board.BoardFrame;
-import game.logic.Direction;
+import game.gui.board.BoardView;
+import game.logic.ActorExecutor;
+import game.logic.GameModel;
+import game.logic.hero.HeroModel;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 
-public abstract class Hero {
-
-    /**
-     * distance at which ghost can kill pacman (pixels)
-     */
-    protected static final int DEATH_RADIUS;
-    protected final int timeToPassOneCell;
+/**
+ * Displays a hero of a game model as a sprite painted by the board view.
+ * In the actor execution mode the hero also advances its model in its own loop
+ */
+public abstract class Hero implements ActorExecutor.Actor {
     protected final int cellSize;
-    protected final JLabel label;
     protected final BoardFrame boardFrame;
+    protected final GameModel game;
+    private final BoardView view;
+    private volatile Icon icon;
     /**
-     * time to go through 1 pixel
+     * top left corner of the sprite on the board view (pixels)
      */
-    protected int speed;
-    protected final AtomicReference<Direction> direction;
-    protected final AtomicBoolean isEndOfRound;
-    protected final AtomicBoolean isPaused;
-    protected final AtomicReference<Direction> newDirection;
-    protected final AtomicReference<Point> target;
-    protected final AtomicReference<Point> newTarget;
-    public final Object mutex;
-    protected boolean isFrozen;
-    protected boolean isExactlyInCell;
-
-    {
-        direction = new AtomicReference<>();
-        isEndOfRound = new AtomicBoolean();
-        isPaused = new AtomicBoolean();
-        newDirection = new AtomicReference<>();
-        target = new AtomicReference<>();
-        newTarget = new AtomicReference<>();
-        mutex = new Object();
-    }
+    private volatile int x;
+    private volatile int y;
+    /**
+     * time between two steps in the actor mode (milliseconds)
+     */
+    protected static final int FRAME_TIME;
 
     static {
-        DEATH_RADIUS = 4;
+        FRAME_TIME = 16;
     }
 
-    public Hero(int timeToPassOneCell, int cellSize, JLabel label, Direction direction, BoardFrame boardFrame) {
-        this.timeToPassOneCell = timeToPassOneCell;
+    public Hero(int cellSize, BoardFrame boardFrame) {
         this.cellSize = cellSize;
-        boardFrame.getContentPane().setComponentZOrder(label, 0);
-        this.label = label;
         this.boardFrame = boardFrame;
-        this.direction.set(direction);
-        this.speed = timeToPassOneCell / cellSize;
+        this.game = boardFrame.getGame();
+        this.view = boardFrame.getBoardView();
+        view.addSprite(this);
+    }
+
+    protected void setIcon(Icon icon) {
+        if (this.icon != icon) {
+            this.icon = icon;
+            repaint();
+        }
+    }
+
+    protected void move(HeroModel model) {
+        int newX = (int) ((long) model.getX() * cellSize / HeroModel.UNITS_PER_CELL);
+        int newY = (int) ((long) model.getY() * cellSize / HeroModel.UNITS_PER_CELL);
+        if (newX != x || newY != y) {
+            repaint();
+            x = newX;
+            y = newY;
+            repaint();
+        }
+    }
+
+    /**
+     * Takes the sprite away from the board view
+     */
+    protected void remove() {
+        view.removeSprite(this);
+        repaint();
+        // hero may be removed after the last tick of the game
+        view.flush();
     }
 
-    public abstract void start();
+    private void repaint() {
+        view.markDirty(x, y, cellSize, cellSize);
+    }
+
+    /**
+     * Paints the icon in the center of the hero cell
+     */
+    public void paint(Graphics g) {
+        var icon = this.icon;
+        if (icon != null) {
+            icon.paintIcon(view, g,
+                    x + (cellSize - icon.getIconWidth()) / 2,
+                    y + (cellSize - icon.getIconHeight()) / 2);
+        }
+    }
+
+    /**
+     * Displays the actual state of the hero model
+     * @param elapsedNanos time passed since the previous frame
+     */
+    public abstract void display(long elapsedNanos);
 }
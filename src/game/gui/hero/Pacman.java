@@ -1,75 +1,75 @@
 package game.gui.hero;
 
+import game.gui.utils.SpriteCache;
 import game.gui.utils.UIUtils;
 import game.gui.board.BoardFrame;
-import game.logic.Direction;
 import game.logic.exception.AudioLoadingException;
 import game.logic.exception.GameException;
+import game.logic.hero.HeroModel;
+import game.logic.hero.PacmanModel;
+import game.logic.log.Logger;
 
 import javax.swing.*;
-import java.awt.*;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
 
 public class Pacman extends Hero {
+    private static final Logger log;
 
     /**
      * GIFs & images used to display pacman state
      */
     public enum Picture {
-        CIRCLE_DOWN(icon("/images/pacman/circle-left.png")),
-        CIRCLE_LEFT(icon("/images/pacman/circle-right.png")),
-        CIRCLE_RIGHT(icon("/images/pacman/circle-up.png")),
-        CIRCLE_UP(icon("/images/pacman/circle-down.png")),
-        DIE_LEFT(icon("/images/pacman/die-left.png")),
-        DIE_RIGHT(icon("/images/pacman/die-right.png")),
-        DIE_UP(icon("/images/pacman/die-up.png")),
-        DIE_DOWN(icon("/images/pacman/die-down.png")),
-        LEFT(icon("/images/pacman/left.png")),
-        RIGHT(icon("/images/pacman/right.png")),
-        UP(icon("/images/pacman/up.png")),
-        CONFETTI(icon("/images/pacman/confetti.png")),
-        DOWN(icon("/images/pacman/down.png"));
-
-        private final ImageIcon icon;
-
-        Picture(ImageIcon icon) {
-            this.icon = icon;
+        CIRCLE_DOWN("/images/pacman/circle-left.png"),
+        CIRCLE_LEFT("/images/pacman/circle-right.png"),
+        CIRCLE_RIGHT("/images/pacman/circle-up.png"),
+        CIRCLE_UP("/images/pacman/circle-down.png"),
+        DIE_LEFT("/images/pacman/die-left.png"),
+        DIE_RIGHT("/images/pacman/die-right.png"),
+        DIE_UP("/images/pacman/die-up.png"),
+        DIE_DOWN("/images/pacman/die-down.png"),
+        LEFT("/images/pacman/left.png"),
+        RIGHT("/images/pacman/right.png"),
+        UP("/images/pacman/up.png"),
+        CONFETTI("/images/pacman/confetti.png"),
+        DOWN("/images/pacman/down.png");
+
+        private final String path;
+
+        Picture(String path) {
+            this.path = path;
         }
 
-        /**
-         * Reads content of a file and converts it to a ImageIcon instance
-         * @param fileName path to the file
-         * @throws NullPointerException cannot find a file
-         */
-        private static ImageIcon icon(String fileName) {
-            try {
-                return new ImageIcon(Objects.requireNonNull(Picture.class.getResource(fileName)));
-            } catch (Exception e) {
-                throw new RuntimeException("Problem with reading a file");
-            }
+        public String getPath() {
+            return path;
         }
 
         public ImageIcon getIcon() {
-            return icon;
+            return SpriteCache.get(path, 0);
         }
 
         public ImageIcon getScaled(int size) {
-            return new ImageIcon(icon.getImage().getScaledInstance(size, size, Image.SCALE_DEFAULT));
+            return SpriteCache.get(path, size);
         }
     }
 
+    private final PacmanModel model;
+    private boolean isCircle;
+    private int displayedPixels;
+    private boolean isFrozenDisplayed;
+    /**
+     * time passed since pacman death, negative if pacman is alive
+     */
+    private volatile long deathTime;            // nanoseconds
+    private int confettiSize;
     /**
-     * in milliseconds
+     * the sprite is removed from the board after the confetti
      */
-    private final AtomicBoolean isCircle;
-    private final AtomicBoolean isDirectionJustChangedToOpposite;
-    private final int speedup;
-    private static final int SPEEDUP_TIME;          // milliseconds
+    private boolean isRemoved;
 
 //    public static final int SPEEDUP;
     private static final String DIE_AUDIO_FILE_LOCATION;
+    private static final int CONFETTI_TIME;                 // milliseconds
+    private static final int DEATH_ANIMATION_TIME;          // milliseconds
     private final ImageIcon CIRCLE_DOWN;
     private final ImageIcon CIRCLE_LEFT;
     private final ImageIcon CIRCLE_RIGHT;
@@ -81,34 +81,31 @@ public class Pacman extends Hero {
     private final ImageIcon LEFT;
     private final ImageIcon RIGHT;
     private final ImageIcon UP;
-    private final ImageIcon CONFETTI;
     private final ImageIcon DOWN;
 
     {
         // TODO: maybe change value
-        isCircle = new AtomicBoolean(true);
-        isDirectionJustChangedToOpposite = new AtomicBoolean();
+        isCircle = true;
+        deathTime = -1;
     }
 
     static {
-        SPEEDUP_TIME = 10_000;              // 10 seconds
+        log = Logger.of(Pacman.class);
         DIE_AUDIO_FILE_LOCATION = "/audio/death.wav";
+        CONFETTI_TIME = 1100;
+        DEATH_ANIMATION_TIME = 400 + CONFETTI_TIME + 200;
     }
 
     /**
      * Create a pacman and place its icon on a board
      *
+     * @param model     pacman of a game model
      * @param cellSize  size of a pacman icon
-     * @param direction where pacman will start moving
-     * @param label     component that is already added to the board
-     *                  and will represent a pacman and it's movement
      * @param board
      */
-    public Pacman(int cellSize, Direction direction, JLabel label, BoardFrame board) {
-        super(300, cellSize, label, direction, board);
-
-        // 40% faster
-        speedup = speed * 2 / 5;
+    public Pacman(PacmanModel model, int cellSize, BoardFrame board) {
+        super(cellSize, board);
+        this.model = model;
 
         // prepare scaled images
         {
@@ -124,206 +121,53 @@ public class Pacman extends Hero {
             DIE_LEFT = Picture.DIE_LEFT.getScaled(cellSize);
             DIE_RIGHT = Picture.DIE_RIGHT.getScaled(cellSize);
             DIE_UP = Picture.DIE_UP.getScaled(cellSize);
-            CONFETTI = Picture.CONFETTI.getScaled(cellSize);
         }
 
-        label.setIcon(pacmanIcon());
-    }
-
-    boolean isFast = false;
-
-    public int getMaxSpeed() {
-        synchronized (mutex) {
-            if (isFast) {
-                return speed;
-            } else {
-                return speed + speedup;
-            }
-        }
+        setIcon(pacmanIcon());
+        move(model);
     }
 
-    private final AtomicLong timer = new AtomicLong(0);
-    public void speedup() {
-        if (timer.get() > 200) {
-            synchronized (timer) {
-                timer.set(timer.get() + 10_000);
-            }
+    /**
+     * Moves & animates pacman sprite according to the model
+     */
+    @Override
+    public void display(long elapsedNanos) {
+        if (deathTime >= 0) {
+            displayDeath(elapsedNanos);
             return;
         }
-        timer.set(10_000);
-        new Thread(() -> {
-            try {
-                synchronized (mutex) {
-                    UIUtils.playSound("/audio/speedup.wav", false);
-                    boardFrame.addPower("Speed Up");
-                    speedUp();
-                }
-                while (timer.get() > 0) {
-                    Thread.sleep(50);
-                    synchronized (mutex) {
-                        if (!isPaused.get()) {
-                            synchronized (timer) {
-                                timer.set(timer.get() - 50);
-                            }
-                        }
-                    }
-                }
-                synchronized (mutex) {
-                    boardFrame.removePower("Speed Up");
-                    slowDown();
-                }
-            } catch (InterruptedException | AudioLoadingException e) {
-                throw new GameException(e);
-            }
-        }).start();
-    }
-
-    private void speedUp() {
-        if (!isFast) {
-            synchronized (mutex) {
-                speed -= speedup;
-            }
-            isFast = true;
-            // slow down after SPEEDUP_TIME
-            new Thread(() -> {
-                try {
-                    Thread.sleep(SPEEDUP_TIME);
-                    slowDown();
-                } catch (InterruptedException e) {
-                    throw new GameException(e);
-                }
-            }).start();
-        }
-    }
-
-    private void slowDown() {
-        if (isFast) {
-            synchronized (mutex) {
-                speed += speedup;
-            }
-            isFast = false;
+        // animate every pixel of movement
+        int passedPixels = (int) ((long) model.getPassedUnits() * cellSize / HeroModel.UNITS_PER_CELL);
+        if (passedPixels != displayedPixels) {
+            displayedPixels = passedPixels;
+            isFrozenDisplayed = false;
+            nextIcon();
+            move(model);
+        } else if (model.isFrozen() && !isFrozenDisplayed) {
+            isFrozenDisplayed = true;
+            freeze();
         }
     }
 
-    public int getSpeed() {
-        return speed;
-    }
-
-    public Direction getDirection() {
-        return direction.get();
-    }
-
-    public Point getCoordinates() {
-        return new Point(label.getX(), label.getY());
-    }
-
-    public void setTarget(Point point) {
-        target.set(point);
-    }
-
-    public void setNewTarget(Point point) {
-        newTarget.set(point);
-    }
-
-    public void setNewDirection(Direction direction) {
-        newDirection.set(direction);
-    }
-
-    public void setDirection(Direction direction) {
-        this.direction.set(direction);
-    }
-
+    /**
+     * Moves pacman model & displays it, keeps animating after the death
+     */
     @Override
-    public void start() {
-        new Thread(() -> {
-            int count = 0;
-            try {
-                while (true) {
-                    // all about movement to next pixel
-                    synchronized (mutex) {
-                        if (isEndOfRound.get()) {
-                            return;
-                        }
-                        if (isPaused.get()) {
-                            freeze();
-                        }
-                        if (isDirectionJustChangedToOpposite.get()) {
-                            isDirectionJustChangedToOpposite.set(false);
-                            count = cellSize - count;
-                        }
-                        // move to next pixel
-                        switch (direction.get()) {
-                            case RIGHT -> {
-                                if (label.getX() == target.get().x) {
-                                    count -= 1;
-                                    freeze();
-                                } else {
-                                    nextIcon();
-                                    label.setBounds(label.getX() + 1, label.getY(), label.getWidth(), label.getHeight());
-                                }
-                            }
-                            case LEFT -> {
-                                if (label.getX() == target.get().x) {
-                                    count -= 1;
-                                    freeze();
-                                } else {
-                                    nextIcon();
-                                    label.setBounds(label.getX() - 1, label.getY(), label.getWidth(), label.getHeight());
-                                }
-                            }
-                            case UP -> {
-                                if (label.getY() == target.get().y) {
-                                    count -= 1;
-                                    freeze();
-                                } else {
-                                    nextIcon();
-                                    label.setBounds(label.getX(), label.getY() - 1, label.getWidth(), label.getHeight());
-                                }
-                            }
-                            case DOWN -> {
-                                if (label.getY() == target.get().y) {
-                                    count -= 1;
-                                    freeze();
-                                } else {
-                                    nextIcon();
-                                    label.setBounds(label.getX(), label.getY() + 1, label.getWidth(), label.getHeight());
-                                }
-                            }
-                        }
-                        count += 1;
-                        if (count == cellSize) {
-                            isExactlyInCell = true;
-                            boardFrame.pacmenMoveToNextCell(label.getX(), label.getY());
-                            if (newTarget.get() != null) {
-                                // TODO: remove assert
-                                assert newDirection.get() != null;
-                                direction.set(newDirection.get());
-                                target.set(newTarget.get());
-                                newTarget.set(null);
-                                newDirection.set(null);
-                            }
-                            count = 0;
-                        } else {
-                            isExactlyInCell = false;
-                        }
-                    }
-                    // simulate speed
-                    Thread.sleep(speed);
-                }
-            } catch (InterruptedException e) {
-                throw new GameException(e);
-            }
-        }).start();
+    public int act(long elapsedNanos) {
+        if (isDeathDisplayed() || deathTime < 0 && game.isOver()) {
+            return -1;
+        }
+        if (deathTime < 0) {
+            game.advancePacman(elapsedNanos);
+        }
+        display(elapsedNanos);
+        return FRAME_TIME;
     }
 
     public void die() {
-        System.out.println("""
-                PACMAN DIES
-                """);
-        synchronized (mutex) {
-            isEndOfRound.set(true);
-            displayDeath();
-        }
+        log.trace(() -> "Pacman dies");
+        deathTime = 0;
+        displayDeath(0);
         try {
             UIUtils.playSound(DIE_AUDIO_FILE_LOCATION, false);
         } catch (AudioLoadingException e) {
@@ -331,112 +175,74 @@ public class Pacman extends Hero {
         }
     }
 
-    private void displayDeath() {
-        new Thread(() -> {
-            try {
-                label.setIcon(switch (direction.get()) {
-                    case RIGHT -> RIGHT;
-                    case LEFT -> LEFT;
-                    case UP -> UP;
-                    case DOWN -> DOWN;
-                });
-                Thread.sleep(200);
-                label.setIcon(switch (direction.get()) {
-                    case LEFT -> DIE_LEFT;
-                    case UP -> DIE_UP;
-                    case RIGHT -> DIE_RIGHT;
-                    case DOWN -> DIE_DOWN;
-                });
-                Thread.sleep(100);
-                label.setIcon(null);
-                Thread.sleep(100);
-                int time = 1100;
-                int n = 25;
-                for (int k = 3; k < n + 3; k++) {
-                    int size = (int) (k * 1d / (n + 2) * cellSize) + 1;
-                    label.setHorizontalAlignment(0);
-                    label.setVerticalAlignment(0);
-                    label.setIcon(new ImageIcon(CONFETTI.getImage().getScaledInstance(size, size, Image.SCALE_FAST)));
-                    Thread.sleep(time / n);
-                }
-                Thread.sleep(200);
-                label.setIcon(null);
-            } catch (InterruptedException e) {
-                throw new GameException(e);
-            }
-        }).start();
+    /**
+     * @return whether death animation is displayed till the end
+     */
+    public boolean isDeathDisplayed() {
+        return deathTime >= TimeUnit.MILLISECONDS.toNanos(DEATH_ANIMATION_TIME);
     }
 
-    public void setOppositeDirection(Direction newDirection) {
-        // TODO: remove assert
-        System.out.println("Pacman changes its direction to opposite");
-        assert newDirection.isOpposite(direction.get());
-        isDirectionJustChangedToOpposite.set(true);
-        direction.set(newDirection);
+    private void displayDeath(long elapsedNanos) {
+        if (isDeathDisplayed()) {
+            return;
+        }
+        deathTime += elapsedNanos;
+        int time = (int) TimeUnit.NANOSECONDS.toMillis(deathTime);
+        if (time < 200) {
+            setIcon(switch (model.getDirection()) {
+                case RIGHT -> RIGHT;
+                case LEFT -> LEFT;
+                case UP -> UP;
+                case DOWN -> DOWN;
+            });
+        } else if (time < 300) {
+            setIcon(switch (model.getDirection()) {
+                case LEFT -> DIE_LEFT;
+                case UP -> DIE_UP;
+                case RIGHT -> DIE_RIGHT;
+                case DOWN -> DIE_DOWN;
+            });
+        } else if (time < 400) {
+            setIcon(null);
+        } else if (time < 400 + CONFETTI_TIME) {
+            int n = 25;
+            int k = 3 + (time - 400) / (CONFETTI_TIME / n);
+            int size = (int) (k * 1d / (n + 2) * cellSize) + 1;
+            if (size != confettiSize) {
+                confettiSize = size;
+                setIcon(Picture.CONFETTI.getScaled(size));
+            }
+        } else if (!isRemoved) {
+            isRemoved = true;
+            setIcon(null);
+            remove();
+        }
     }
 
     private void freeze() {
-        isFrozen = true;
-        isExactlyInCell = true;
-        isCircle.set(true);
-        UIUtils.stopChomp();
-        label.setIcon(switch (direction.get()) {
+        isCircle = true;
+        setIcon(switch (model.getDirection()) {
             case RIGHT -> RIGHT;
             case LEFT -> LEFT;
             case UP -> UP;
             case DOWN -> DOWN;
         });
-        try {
-//            synchronized (mutex) {
-                mutex.wait();
-//            }
-            isFrozen = false;
-        } catch (InterruptedException e) {
-            throw new GameException(e);
-        }
-    }
-
-    public boolean isFrozen() {
-        return isFrozen;
-    }
-
-    public void pause() {
-        synchronized (mutex) {
-            isPaused.set(true);
-        }
-    }
-
-    public void resume() {
-        synchronized (mutex) {
-            isPaused.set(false);
-            mutex.notify();
-        }
-    }
-
-    public void stop() {
-        synchronized (mutex) {
-            isEndOfRound.set(true);
-        }
-    }
-
-    public boolean isExactlyInCell() {
-        return isExactlyInCell;
     }
 
     private void nextIcon() {
-        label.setIcon(pacmanIcon());
+        setIcon(pacmanIcon());
     }
 
     private ImageIcon pacmanIcon() {
-        isCircle.set(!isCircle.get());
-        return isCircle.get() ?
-                switch (direction.get()) {
+        isCircle = !isCircle;
+        return isCircle ?
+                switch (model.getDirection()) {
                     case RIGHT -> CIRCLE_RIGHT;
                     case LEFT -> CIRCLE_LEFT;
                     case UP -> CIRCLE_UP;
                     case DOWN -> CIRCLE_DOWN;
                 } :
-                switch (direction.get()) {
+                switch (model.getDirection()) {
                     case RIGHT -> RIGHT;
                     case LEFT -> LEFT;
                     case UP -> UP;
@@ -0,0 +1,193 @@
+package game.gui.utils;
+
+import game.logic.exception.GameException;
+import game.logic.jfr.AssetLoadEvent;
+import game.logic.log.Logger;
+import game.logic.metrics.Metrics;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Decodes sprite atlases, pictures & sounds in parallel on a small pool of threads
+ * while the menu is shown and converts every sound for the audio mixer,
+ * so boards & heroes find them ready. Pictures which are not baked into atlases
+ * are scaled only to the cell size of a board which is actually opened
+ */
+public class AssetLoader {
+    private static final Logger log;
+
+    /**
+     * Decoded sound, which is given to the audio mixer without reading the file again
+     */
+    public record Sound(AudioFormat format, byte[] data) {}
+
+    private static final ExecutorService pool;
+    private static final Map<String, CompletableFuture<Sound>> sounds;
+    /**
+     * pictures which are decoded in advance
+     */
+    private static final List<String> images;
+    private static final AtomicInteger remaining;
+    private static int total;
+    private static long startTime;                      // nanoseconds
+    private static volatile long timeToReady;           // milliseconds, negative till all is loaded
+    private static volatile IntConsumer progressListener;
+
+    static {
+        log = Logger.of(AssetLoader.class);
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "asset-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sounds = new ConcurrentHashMap<>();
+        images = new CopyOnWriteArrayList<>();
+        remaining = new AtomicInteger();
+        timeToReady = -1;
+        progressListener = percent -> {};
+        Metrics.gauge("assets.ready", AssetLoader::getTimeToReady);
+    }
+
+    /**
+     * @param listener receives percent of loaded assets, is called by a loader thread
+     */
+    public static void setProgressListener(IntConsumer listener) {
+        progressListener = listener;
+    }
+
+    /**
+     * Starts decoding of original pictures and sounds, returns at once
+     */
+    public static synchronized void start(Collection<String> imagePaths, Collection<String> soundPaths) {
+        startTime = System.nanoTime();
+        images.addAll(imagePaths);
+        total = SpriteAtlas.SIZES.length + imagePaths.size() + soundPaths.size();
+        remaining.set(total);
+        for (int size : SpriteAtlas.SIZES) {
+            pool.execute(() -> {
+                var event = new AssetLoadEvent(SpriteAtlas.DIRECTORY + SpriteAtlas.imageName(size),
+                        AssetLoadEvent.ATLAS);
+                event.begin();
+                try {
+                    SpriteAtlas.of(size);
+                } finally {
+                    event.commit();
+                    onLoaded();
+                }
+            });
+        }
+        for (var path : imagePaths) {
+            pool.execute(() -> {
+                try {
+                    // baked pictures are not decoded one by one
+                    if (!SpriteAtlas.isBaked(path)) {
+                        var event = new AssetLoadEvent(path, AssetLoadEvent.IMAGE);
+                        event.begin();
+                        SpriteCache.get(path, 0);
+                        event.commit();
+                    }
+                } catch (GameException e) {
+                    log.warn("Cannot load a picture " + path, e);
+                } finally {
+                    onLoaded();
+                }
+            });
+        }
+        for (var path : soundPaths) {
+            sounds.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> decode(p), pool))
+                    .whenComplete((sound, e) -> {
+                        try {
+                            if (e != null) {
+                                log.warn("Cannot load a sound " + path, e);
+                            } else {
+                                UIUtils.prepareSound(path);
+                            }
+                        } finally {
+                            onLoaded();
+                        }
+                    });
+        }
+    }
+
+    private static void onLoaded() {
+        int left = remaining.decrementAndGet();
+        progressListener.accept(100 - left * 100 / total);
+        if (left == 0) {
+            timeToReady = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            log.info(() -> "Assets are ready in " + timeToReady + " ms");
+        }
+    }
+
+    /**
+     * @return time (milliseconds) from the start till all assets were loaded, negative if they are not yet
+     */
+    public static long getTimeToReady() {
+        return timeToReady;
+    }
+
+    /**
+     * Scales all pictures loaded in advance to the size in parallel and waits for them
+     */
+    public static void prepareSize(int size) {
+        long start = System.nanoTime();
+        var tasks = new ArrayList<CompletableFuture<Void>>(images.size());
+        for (var path : images) {
+            tasks.add(CompletableFuture.runAsync(() -> SpriteCache.get(path, size), pool));
+        }
+        for (var task : tasks) {
+            try {
+                task.join();
+            } catch (CompletionException e) {
+                // the picture is reported when it is used
+            }
+        }
+        long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info(() -> "Sprites of size " + size + " are ready in " + time + " ms");
+    }
+
+    /**
+     * Waits for a sound which is being loaded or decodes it at once
+     * @throws GameException cannot read the sound
+     */
+    public static Sound getSound(String path) {
+        try {
+            return sounds.computeIfAbsent(path, p -> CompletableFuture.completedFuture(decode(p))).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof GameException cause ? cause : new GameException(e.getCause());
+        }
+    }
+
+    private static Sound decode(String path) {
+        var in = AssetLoader.class.getResourceAsStream(path);
+        if (in == null) {
+            throw new GameException("Cannot find a sound " + path);
+        }
+        var event = new AssetLoadEvent(path, AssetLoadEvent.SOUND);
+        event.begin();
+        try (var audio = AudioSystem.getAudioInputStream(new BufferedInputStream(in))) {
+            return new Sound(audio.getFormat(), audio.readAllBytes());
+        } catch (IOException | UnsupportedAudioFileException e) {
+            throw new GameException(e);
+        } finally {
+            event.commit();
+        }
+    }
+}
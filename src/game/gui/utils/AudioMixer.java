@@ -0,0 +1,340 @@
+package game.gui.utils;
+
+import game.logic.exception.GameException;
+import game.logic.log.Logger;
+import game.logic.metrics.Metrics;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Software mixer, which owns the only audio line of the game.
+ * A dedicated thread mixes all playing voices period by period into the ring buffer
+ * of the line, so the number of native lines & the mixing cost do not depend
+ * on how many sounds are started. At most MAX_VOICES sounds play at once,
+ * a new sound takes the place of the oldest sound of the lowest priority
+ * if it is not more important than the new one
+ */
+public class AudioMixer {
+    private static final Logger log;
+
+    public enum Priority {
+        LOW,            // e.g. chomp
+        NORMAL,         // effects
+        HIGH            // music
+    }
+
+    /**
+     * Sound being played, voices are allocated once and reused
+     */
+    private static class Voice {
+        short[] samples;
+        int position;               // index in samples
+        boolean isLooped;
+        boolean isPaused;
+        Priority priority;
+        long startOrder;
+        /**
+         * is increased every time the voice is reused, so old handles do not match it
+         */
+        int generation;
+
+        boolean isActive() {
+            return samples != null;
+        }
+    }
+
+    private static final int RATE;
+    private static final AudioFormat FORMAT;
+    private static final int MAX_VOICES;
+    private static final int PERIOD_FRAMES;
+    private static final int BUFFER_PERIODS;
+    private static AudioMixer instance;
+    private final Voice[] voices;
+    /**
+     * sounds converted to the format of the line: 16 bit stereo samples
+     */
+    private final Map<String, short[]> samples;
+    private final SourceDataLine line;          // null if there is no audio device
+    private final int[] mix;
+    private final byte[] period;
+    private long startCount;
+    private boolean isMuted;
+    private volatile long underruns;
+    private volatile long stolenVoices;
+
+    static {
+        log = Logger.of(AudioMixer.class);
+        RATE = 44100;
+        FORMAT = new AudioFormat(RATE, 16, 2, true, false);
+        MAX_VOICES = 8;
+        PERIOD_FRAMES = 512;                // ~12 ms
+        BUFFER_PERIODS = 4;
+    }
+
+    {
+        voices = new Voice[MAX_VOICES];
+        for (int k = 0; k < MAX_VOICES; k++) {
+            voices[k] = new Voice();
+        }
+        samples = new ConcurrentHashMap<>();
+        mix = new int[PERIOD_FRAMES * 2];
+        period = new byte[PERIOD_FRAMES * 4];
+    }
+
+    private AudioMixer() {
+        SourceDataLine opened;
+        try {
+            opened = AudioSystem.getSourceDataLine(FORMAT);
+            opened.open(FORMAT, period.length * BUFFER_PERIODS);
+            opened.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            log.warn("Sounds are unavailable: " + e.getMessage());
+            opened = null;
+        }
+        line = opened;
+        Metrics.gauge("audio.voices", this::getActiveVoices);
+        Metrics.gauge("audio.underruns", this::getUnderruns);
+        Metrics.gauge("audio.stolen", this::getStolenVoices);
+        if (line != null) {
+            var thread = new Thread(this::run, "audio-mixer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public static synchronized AudioMixer getInstance() {
+        if (instance == null) {
+            instance = new AudioMixer();
+        }
+        return instance;
+    }
+
+    /**
+     * Converts the sound decoded by the asset loader to the format of the line in advance
+     * @throws GameException cannot read the sound
+     */
+    public void prepare(String path) {
+        samples.computeIfAbsent(path, p -> toLineSamples(AssetLoader.getSound(p)));
+    }
+
+    /**
+     * @return handle of the voice or -1 if the sound is not played
+     * @throws GameException cannot read the sound
+     */
+    public int play(String path, Priority priority, boolean isLooped) {
+        if (line == null) {
+            return -1;
+        }
+        // a sound which is not prepared is converted without blocking the audio thread
+        prepare(path);
+        var sound = samples.get(path);
+        if (sound.length == 0) {
+            // shorter than one frame of the line, there is nothing to play
+            return -1;
+        }
+        synchronized (this) {
+            int index = findVoice(priority);
+            if (index < 0) {
+                return -1;
+            }
+            var voice = voices[index];
+            voice.samples = sound;
+            voice.position = 0;
+            voice.isLooped = isLooped;
+            voice.isPaused = false;
+            voice.priority = priority;
+            voice.startOrder = startCount++;
+            voice.generation += 1;
+            return voice.generation * MAX_VOICES + index;
+        }
+    }
+
+    /**
+     * @return free voice, voice to steal or -1
+     */
+    private int findVoice(Priority priority) {
+        int victim = -1;
+        for (int k = 0; k < MAX_VOICES; k++) {
+            var voice = voices[k];
+            if (!voice.isActive()) {
+                return k;
+            }
+            if (victim < 0 || voice.priority.compareTo(voices[victim].priority) < 0
+                    || voice.priority == voices[victim].priority && voice.startOrder < voices[victim].startOrder) {
+                victim = k;
+            }
+        }
+        if (voices[victim].priority.compareTo(priority) > 0) {
+            return -1;
+        }
+        stolenVoices += 1;
+        return victim;
+    }
+
+    private Voice voiceOf(int handle) {
+        if (handle < 0) {
+            return null;
+        }
+        var voice = voices[handle % MAX_VOICES];
+        return voice.isActive() && voice.generation == handle / MAX_VOICES ? voice : null;
+    }
+
+    public synchronized boolean isActive(int handle) {
+        return voiceOf(handle) != null;
+    }
+
+    public synchronized void stop(int handle) {
+        var voice = voiceOf(handle);
+        if (voice != null) {
+            voice.samples = null;
+        }
+    }
+
+    public synchronized void setPaused(int handle, boolean isPaused) {
+        var voice = voiceOf(handle);
+        if (voice != null) {
+            voice.isPaused = isPaused;
+        }
+    }
+
+    /**
+     * Stops all voices except the given ones, e.g. the music
+     */
+    public synchronized void stopAllExcept(int... kept) {
+        for (var voice : voices) {
+            boolean isKept = false;
+            for (int handle : kept) {
+                isKept |= voiceOf(handle) == voice;
+            }
+            if (!isKept) {
+                voice.samples = null;
+            }
+        }
+    }
+
+    /**
+     * Muted mixer plays silence, voices keep their positions
+     */
+    public synchronized void setMuted(boolean isMuted) {
+        this.isMuted = isMuted;
+    }
+
+    /**
+     * @return how many times the line has played all the mixed sound before the next period was ready
+     */
+    public long getUnderruns() {
+        return underruns;
+    }
+
+    public long getStolenVoices() {
+        return stolenVoices;
+    }
+
+    public synchronized int getActiveVoices() {
+        int count = 0;
+        for (var voice : voices) {
+            if (voice.isActive()) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    private void run() {
+        boolean isStarted = false;
+        while (true) {
+            mixPeriod();
+            // the whole ring buffer is free only if the line has run out of sound
+            if (isStarted && line.available() >= line.getBufferSize()) {
+                underruns += 1;
+            }
+            isStarted = true;
+            line.write(period, 0, period.length);
+        }
+    }
+
+    private synchronized void mixPeriod() {
+        Arrays.fill(mix, 0);
+        if (!isMuted) {
+            for (var voice : voices) {
+                if (voice.isActive() && !voice.isPaused) {
+                    mixVoice(voice);
+                }
+            }
+        }
+        for (int k = 0; k < mix.length; k++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[k]));
+            period[2 * k] = (byte) sample;
+            period[2 * k + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    private void mixVoice(Voice voice) {
+        var source = voice.samples;
+        if (source.length == 0) {
+            voice.samples = null;
+            return;
+        }
+        int k = 0;
+        while (k < mix.length) {
+            int count = Math.min(mix.length - k, source.length - voice.position);
+            for (int n = 0; n < count; n++) {
+                mix[k + n] += source[voice.position + n];
+            }
+            k += count;
+            voice.position += count;
+            if (voice.position == source.length) {
+                if (!voice.isLooped) {
+                    voice.samples = null;
+                    return;
+                }
+                voice.position = 0;
+            }
+        }
+    }
+
+    /**
+     * Converts 16 bit (or other PCM, through the audio system) sound of any rate & channels
+     * to 16 bit stereo samples at the rate of the line
+     */
+    private static short[] toLineSamples(AssetLoader.Sound sound) {
+        var format = sound.format();
+        byte[] data = sound.data();
+        if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED || format.getSampleSizeInBits() != 16) {
+            var target = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+            var source = new AudioInputStream(new ByteArrayInputStream(data), format,
+                    data.length / format.getFrameSize());
+            try (var converted = AudioSystem.getAudioInputStream(target, source)) {
+                data = converted.readAllBytes();
+                format = target;
+            } catch (IOException | IllegalArgumentException e) {
+                throw new GameException(e);
+            }
+        }
+        int channels = format.getChannels();
+        boolean isBigEndian = format.isBigEndian();
+        int frames = data.length / (2 * channels);
+        double step = format.getSampleRate() / RATE;
+        int lineFrames = (int) (frames / step);
+        var result = new short[lineFrames * 2];
+        for (int k = 0; k < lineFrames; k++) {
+            int frame = Math.min(frames - 1, (int) (k * step));
+            for (int c = 0; c < 2; c++) {
+                int offset = (frame * channels + Math.min(c, channels - 1)) * 2;
+                int low = data[offset + (isBigEndian ? 1 : 0)] & 0xFF;
+                int high = data[offset + (isBigEndian ? 0 : 1)];
+                result[2 * k + c] = (short) (high << 8 | low);
+            }
+        }
+        return result;
+    }
+}
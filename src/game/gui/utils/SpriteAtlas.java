@@ -0,0 +1,139 @@
+package game.gui.utils;
+
+import game.logic.board.Cell;
+import game.logic.exception.GameException;
+import game.logic.log.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * All sprites of one cell size packed into one image ahead of time by the AtlasBaker,
+ * with an index of their places. Each atlas is decoded once and converted
+ * to an image compatible with the screen, sprites are its sub-images
+ */
+public class SpriteAtlas {
+    private static final Logger log;
+    /**
+     * cell sizes for which atlases are baked, ascending
+     */
+    public static final int[] SIZES;
+    public static final String DIRECTORY;
+    private static final Map<Integer, Optional<SpriteAtlas>> atlases;
+    private final BufferedImage image;
+    private final Map<String, Rectangle> places;
+
+    static {
+        log = Logger.of(SpriteAtlas.class);
+        SIZES = new int[] {Cell.TINY_SIZE, Cell.SMALL_SIZE, Cell.MEDIUM_SIZE, Cell.LARGE_SIZE};
+        DIRECTORY = "/atlas/";
+        atlases = new ConcurrentHashMap<>();
+    }
+
+    private SpriteAtlas(BufferedImage image, Map<String, Rectangle> places) {
+        this.image = image;
+        this.places = places;
+    }
+
+    public static String imageName(int size) {
+        return "sprites-" + size + ".png";
+    }
+
+    public static String indexName(int size) {
+        return "sprites-" + size + ".txt";
+    }
+
+    /**
+     * @return atlas of the size or null if it is not baked
+     */
+    public static SpriteAtlas of(int size) {
+        return atlases.computeIfAbsent(size, SpriteAtlas::load).orElse(null);
+    }
+
+    /**
+     * @return whether the picture is baked into an atlas of any size
+     */
+    public static boolean isBaked(String path) {
+        for (int size : SIZES) {
+            var atlas = of(size);
+            if (atlas != null && atlas.contains(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(String path) {
+        return places.containsKey(path);
+    }
+
+    /**
+     * @return sprite made from the picture or null if it is not in the atlas
+     */
+    public BufferedImage get(String path) {
+        var place = places.get(path);
+        return place == null ? null : image.getSubimage(place.x, place.y, place.width, place.height);
+    }
+
+    private static Optional<SpriteAtlas> load(int size) {
+        try (InputStream imageIn = SpriteAtlas.class.getResourceAsStream(DIRECTORY + imageName(size));
+             InputStream indexIn = SpriteAtlas.class.getResourceAsStream(DIRECTORY + indexName(size))) {
+            if (imageIn == null || indexIn == null) {
+                return Optional.empty();
+            }
+            var places = readIndex(indexIn);
+            return Optional.of(new SpriteAtlas(toCompatible(ImageIO.read(imageIn)), places));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot load the sprite atlas of size " + size, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Every line of the index is "x y width height path"
+     */
+    private static Map<String, Rectangle> readIndex(InputStream in) throws IOException {
+        var places = new HashMap<String, Rectangle>();
+        var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] parts = line.trim().split(" ", 5);
+            if (parts.length != 5) {
+                throw new GameException("Invalid line of a sprite atlas index: " + line);
+            }
+            places.put(parts[4], new Rectangle(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+        }
+        return places;
+    }
+
+    /**
+     * Copies the image into the format of the screen, so drawing it needs no conversion
+     */
+    private static BufferedImage toCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        var configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        var compatible = configuration.createCompatibleImage(image.getWidth(), image.getHeight(),
+                Transparency.TRANSLUCENT);
+        var g = compatible.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+}
@@ -0,0 +1,135 @@
+package game.gui.utils;
+
+import game.logic.exception.GameException;
+import game.logic.metrics.Metrics;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Process-wide cache of pictures keyed by (file, size), shared by all boards and rounds,
+ * so every picture is decoded once and scaled once per size.
+ * Sprites of the cell sizes are taken from the baked atlases when they exist.
+ * The least recently used pictures are evicted when the cache is full
+ */
+public class SpriteCache {
+    private record Key(String path, int size) {}
+
+    private static final int CAPACITY;
+    /**
+     * icons being loaded are kept as futures, so a picture requested by several threads
+     * at once is still decoded once
+     */
+    private static final LinkedHashMap<Key, CompletableFuture<ImageIcon>> icons;
+    private static long hits;
+    private static long misses;
+
+    static {
+        CAPACITY = 512;
+        icons = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<ImageIcon>> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+        Metrics.gauge("sprites.hits", SpriteCache::getHits);
+        Metrics.gauge("sprites.misses", SpriteCache::getMisses);
+    }
+
+    /**
+     * @param path resource path of a picture
+     * @param size width & height of the icon, non-positive for the original size
+     * @throws GameException cannot read the picture
+     */
+    public static ImageIcon get(String path, int size) {
+        var key = new Key(path, size);
+        CompletableFuture<ImageIcon> icon;
+        boolean isLoader = false;
+        synchronized (icons) {
+            icon = icons.get(key);
+            if (icon != null) {
+                hits += 1;
+            } else {
+                misses += 1;
+                icon = new CompletableFuture<>();
+                icons.put(key, icon);
+                isLoader = true;
+            }
+        }
+        if (isLoader) {
+            // decoding & scaling are done without the lock
+            try {
+                icon.complete(new ImageIcon(size <= 0 ? read(path) : load(path, size)));
+            } catch (RuntimeException e) {
+                synchronized (icons) {
+                    icons.remove(key);
+                }
+                icon.completeExceptionally(e);
+            }
+        }
+        try {
+            return icon.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof GameException cause ? cause : new GameException(e.getCause());
+        }
+    }
+
+    public static long getHits() {
+        synchronized (icons) {
+            return hits;
+        }
+    }
+
+    public static long getMisses() {
+        synchronized (icons) {
+            return misses;
+        }
+    }
+
+    /**
+     * Takes the sprite from the baked atlas of the size, otherwise scales
+     * the smallest baked sprite which is larger or the original picture
+     */
+    private static Image load(String path, int size) {
+        var atlas = SpriteAtlas.of(size);
+        var baked = atlas == null ? null : atlas.get(path);
+        if (baked != null) {
+            return baked;
+        }
+        for (int bakedSize : SpriteAtlas.SIZES) {
+            var larger = bakedSize > size ? SpriteAtlas.of(bakedSize) : null;
+            if (larger != null && larger.contains(path)) {
+                return scale(get(path, bakedSize).getImage(), size);
+            }
+        }
+        return scale(get(path, 0).getImage(), size);
+    }
+
+    private static BufferedImage read(String path) {
+        try (InputStream in = SpriteCache.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new GameException("Cannot find a picture " + path);
+            }
+            return ImageIO.read(in);
+        } catch (IOException e) {
+            throw new GameException(e);
+        }
+    }
+
+    public static BufferedImage scale(Image original, int size) {
+        var scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        var g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(original, 0, 0, size, size, null);
+        g.dispose();
+        return scaled;
+    }
+}
@@ -1,77 +1,88 @@
 package game.gui.utils;
 
-import game.logic.Utils;
 import game.logic.exception.AudioLoadingException;
 import game.logic.exception.GameException;
 import game.logic.exception.PacmanException;
+import game.logic.jfr.SoundPlaybackEvent;
+import game.logic.log.Logger;
+import game.logic.metrics.Counter;
+import game.logic.metrics.Metrics;
 import game.logic.player.PlayersManager;
 
 import javax.imageio.ImageIO;
-import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Objects;
 
 public class UIUtils {
-    private final static int TIMELAPSE_TO_REMOVE_LAST_SOUND;
+    private static final Logger log;
+    private static final Counter playedSounds;
     public final static int SCREEN_WIDTH;
     public final static int SCREEN_HEIGHT;
-    private static Clip currentContinuousSound;
-    private static Clip chomp;
-    private static Clip invisible;
-    private static final Deque<Clip> sounds;
+    /**
+     * handles of the voices of the mixer, negative if nothing is played
+     */
+    private static int currentContinuousSound;
+    private static final String CHOMP_AUDIO_FILE_LOCATION;
+    private static int chomp;
+    private static int invisible;
     private static boolean isMutated;
 
     // block of static initialization
     static {
-        currentContinuousSound = null;
-        try {
-            var audioInputStream = UIUtils.class.getResourceAsStream("/audio/chomp.wav");
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(Objects.requireNonNull(audioInputStream));
-            chomp = AudioSystem.getClip();
-            chomp.open(audioInput);
-            chomp.loop(Clip.LOOP_CONTINUOUSLY);
-            chomp.stop();
-        } catch (UnsupportedAudioFileException | LineUnavailableException |
-                 IOException | NullPointerException e) {
-            // TODO: process via message window in first board opening, that says that some sounds are unavailable
-            chomp = null;
-            throw new GameException(e);
-        }
-        sounds = new LinkedList<>();
-        TIMELAPSE_TO_REMOVE_LAST_SOUND = 5000;          // seconds
+        log = Logger.of(UIUtils.class);
+        currentContinuousSound = -1;
+        playedSounds = Metrics.counter("audio.sounds");
+        CHOMP_AUDIO_FILE_LOCATION = "/audio/chomp.wav";
+        chomp = -1;
+        invisible = -1;
         isMutated = false;
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
         SCREEN_HEIGHT = screenSize.height;
         SCREEN_WIDTH = screenSize.width;
-        System.out.printf("""
-                Screen width: %d
-                Screen height: %d
-                """, SCREEN_WIDTH, SCREEN_HEIGHT);
+        log.debug(() -> "Screen " + SCREEN_WIDTH + "x" + SCREEN_HEIGHT);
     }
 
-    public static void startChomp() {
-        if (!isMutated() && chomp != null) {
-            chomp.loop(Clip.LOOP_CONTINUOUSLY);
-            chomp.start();
+    /**
+     * Converts the sound for the mixer in advance, is called by the asset loader
+     */
+    static void prepareSound(String audioFileLocation) {
+        try {
+            AudioMixer.getInstance().prepare(audioFileLocation);
+        } catch (GameException e) {
+            log.warn("Cannot prepare a sound " + audioFileLocation, e);
         }
     }
 
-    public static void stopChomp() {
-        if (chomp != null && chomp.isRunning()) {
-            chomp.stop();
+    /**
+     * The chomp voice is kept paused between cells, so toggling it costs no line operations
+     */
+    public static synchronized void startChomp() {
+        if (isMutated()) {
+            return;
         }
-        if (invisible != null && invisible.isRunning()) {
-            invisible.stop();
-            invisible.close();
-            invisible = null;
+        var mixer = AudioMixer.getInstance();
+        if (mixer.isActive(chomp)) {
+            mixer.setPaused(chomp, false);
+            return;
         }
-        sounds.forEach(DataLine::stop);
+        try {
+            chomp = mixer.play(CHOMP_AUDIO_FILE_LOCATION, AudioMixer.Priority.LOW, true);
+        } catch (GameException e) {
+            // TODO: process via message window in first board opening, that says that some sounds are unavailable
+            log.warn("Chomp sound is unavailable", e);
+        }
+    }
+
+    public static synchronized void stopChomp() {
+        var mixer = AudioMixer.getInstance();
+        mixer.setPaused(chomp, true);
+        mixer.stop(invisible);
+        invisible = -1;
+        mixer.stopAllExcept(currentContinuousSound, chomp);
     }
 
     public static boolean isMutated() {
@@ -88,79 +99,40 @@ public class UIUtils {
      * There can be one sound over another,
      * but it is not allowed to continuous sound to be over another continuous sound
      */
-    public static void playSound(String audioFileLocation, boolean isContinuous) throws AudioLoadingException {
+    public static synchronized void playSound(String audioFileLocation, boolean isContinuous)
+            throws AudioLoadingException {
+        var mixer = AudioMixer.getInstance();
+        playedSounds.increment();
+        var event = new SoundPlaybackEvent(audioFileLocation, isContinuous);
+        event.begin();
         try {
-            var audioInputStream = UIUtils.class.getResourceAsStream(audioFileLocation);
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(Objects.requireNonNull(audioInputStream));
-            Clip sound = AudioSystem.getClip();
-            sound.open(audioInput);
             if (isContinuous) {
                 // stop previous continuous sound
-                if (currentContinuousSound != null) {
-                    currentContinuousSound.stop();
-                    currentContinuousSound.close();
-                }
-                currentContinuousSound = sound;
-
-                sound.loop(Clip.LOOP_CONTINUOUSLY);
+                mixer.stop(currentContinuousSound);
+                currentContinuousSound = mixer.play(audioFileLocation, AudioMixer.Priority.HIGH, true);
             } else if (!isMutated()) {
-                // TODO: add sound to list, and set up timeout to remove it
-                synchronized (sounds) {
-                    sounds.addLast(sound);
-                    removeLastSoundAfterTimeout();
-                }
-            }
-            if (!isMutated) {
-                sound.start();
-            } else {
-                sound.stop();
+                mixer.play(audioFileLocation, AudioMixer.Priority.NORMAL, false);
             }
-        } catch (UnsupportedAudioFileException | IOException |
-                 LineUnavailableException | NullPointerException e) {
+        } catch (GameException e) {
             // TODO: provide parameters
             throw new AudioLoadingException("cannot find an audio file or read it's content");
+        } finally {
+            event.commit();
         }
     }
 
-    private static void removeLastSoundAfterTimeout() {
-        new Thread(() -> {
-            Utils.sleep(TIMELAPSE_TO_REMOVE_LAST_SOUND);
-            synchronized (sounds) {
-                try {
-                    var sound = sounds.removeFirst();
-                    sound.stop();
-                    sound.close();
-                    System.out.println("Last sound removed from the queue");
-                } catch (Exception e) {
-                    throw new RuntimeException("there were no sounds to remove from sounds list");
-                }
-            }
-        }).start();
-    }
-
-    public static void mute() {
-        if (currentContinuousSound != null) {
-            currentContinuousSound.stop();
-        }
-        if (chomp != null && chomp.isRunning()) {
-            chomp.stop();
-        }
-        sounds.forEach(DataLine::stop);         // function reference
-        sounds.forEach(Line::close);
-        sounds.clear();
+    /**
+     * Effects & chomp are stopped, music & invisibility are silenced till unmute
+     */
+    public static synchronized void mute() {
+        var mixer = AudioMixer.getInstance();
+        mixer.stopAllExcept(currentContinuousSound, invisible);
+        mixer.setMuted(true);
         isMutated = true;
     }
 
-    public static void unmute() {
-        if (currentContinuousSound != null) {
-            currentContinuousSound.loop(Clip.LOOP_CONTINUOUSLY);
-            currentContinuousSound.start();
-        }
-        if (invisible != null) {
-            invisible.loop(Clip.LOOP_CONTINUOUSLY);
-            invisible.start();
-        }
-        sounds.forEach(DataLine::start);        // function reference
+    public static synchronized void unmute() {
+        AudioMixer.getInstance().setMuted(false);
         isMutated = false;
     }
 
@@ -212,49 +184,23 @@ public class UIUtils {
 
     public static void exit() {
         PlayersManager.getInstance().savePlayers();
-        synchronized (sounds) {
-            sounds.forEach(s -> {
-                s.stop();
-                s.close();
-            });
-            if (currentContinuousSound != null) {
-                currentContinuousSound.stop();
-                currentContinuousSound.close();
-            }
-            System.out.println("Good bye!");
-            System.exit(0);
-        }
+        log.info("Good bye!");
+        System.exit(0);
     }
 
-    public static void stopContinuousSound() {
-        if (currentContinuousSound != null) {
-            if (currentContinuousSound.isRunning()) {
-                currentContinuousSound.stop();
-            }
-            currentContinuousSound = null;
-        }
+    public static synchronized void stopContinuousSound() {
+        AudioMixer.getInstance().stop(currentContinuousSound);
+        currentContinuousSound = -1;
     }
 
-    public static void startInvisibleSound(String s) {
-        try {
-            var audioInputStream = UIUtils.class.getResourceAsStream(s);
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(Objects.requireNonNull(audioInputStream));
-            invisible = AudioSystem.getClip();
-            invisible.open(audioInput);
-        } catch (UnsupportedAudioFileException | LineUnavailableException | IOException e) {
-            throw new GameException(e);
-        }
-        if (invisible != null && !isMutated) {
-            invisible.loop(Clip.LOOP_CONTINUOUSLY);
-            invisible.start();
-        }
+    public static synchronized void startInvisibleSound(String s) {
+        var mixer = AudioMixer.getInstance();
+        mixer.stop(invisible);
+        invisible = mixer.play(s, AudioMixer.Priority.HIGH, true);
     }
 
-    public static void stopInvisibleSound() {
-        if (invisible != null) {
-            invisible.stop();
-            invisible.close();
-            invisible = null;
-        }
+    public static synchronized void stopInvisibleSound() {
+        AudioMixer.getInstance().stop(invisible);
+        invisible = -1;
     }
 }
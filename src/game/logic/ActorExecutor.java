@@ -0,0 +1,178 @@
+package game.logic;
+
+import game.logic.log.Logger;
+import game.logic.metrics.Metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Alternative to the game loop: every actor (pacman, ghost, timers) runs its own loop
+ * on a thread of a per-board executor. Virtual threads are used when the JVM
+ * supports them (Java 21+), otherwise a pool of platform threads.
+ * Pause & resume are based on a lock & condition, so a paused virtual thread
+ * does not pin its carrier thread
+ */
+public class ActorExecutor {
+    private static final Logger log;
+
+    /**
+     * Body of an actor loop
+     */
+    @FunctionalInterface
+    public interface Actor {
+        /**
+         * @param elapsedNanos time passed since the previous call, except pauses
+         * @return time (milliseconds) to wait before the next call,
+         * negative if the actor has finished
+         */
+        int act(long elapsedNanos);
+    }
+
+    private static final Method NEW_VIRTUAL_EXECUTOR;
+    /**
+     * actors of all boards, which have not finished
+     */
+    private static final AtomicInteger running;
+    private final ExecutorService executor;
+    private final ReentrantLock lock;
+    private final Condition resumed;
+    private boolean isPaused;
+    private volatile boolean isRunning;
+
+    static {
+        log = Logger.of(ActorExecutor.class);
+        Method method;
+        try {
+            method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            // older JVM, platform threads will be used
+            method = null;
+        }
+        NEW_VIRTUAL_EXECUTOR = method;
+        running = new AtomicInteger();
+        Metrics.gauge("actors", running::get);
+    }
+
+    {
+        lock = new ReentrantLock();
+        resumed = lock.newCondition();
+        isPaused = false;
+        isRunning = true;
+    }
+
+    public ActorExecutor() {
+        executor = newExecutor();
+    }
+
+    /**
+     * @return whether actors run on virtual threads
+     */
+    public static boolean isVirtual() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    private static ExecutorService newExecutor() {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Failed to create virtual thread executor: " + e.getMessage());
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "actor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the actor loop, which runs till the actor finishes or the executor is shut down
+     */
+    public void start(Actor actor) {
+        running.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                long previous = System.nanoTime();
+                while (isRunning) {
+                    if (awaitResumed()) {
+                        previous = System.nanoTime();
+                    }
+                    long now = System.nanoTime();
+                    int period = actor.act(now - previous);
+                    previous = now;
+                    if (period < 0) {
+                        return;
+                    }
+                    TimeUnit.MILLISECONDS.sleep(period);
+                }
+            } catch (InterruptedException e) {
+                // executor is shut down
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * @return whether the actor was paused
+     */
+    private boolean awaitResumed() throws InterruptedException {
+        lock.lock();
+        try {
+            boolean wasPaused = false;
+            while (isPaused && isRunning) {
+                wasPaused = true;
+                resumed.await();
+            }
+            return wasPaused;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Actors are suspended before their next step
+     */
+    public void pause() {
+        lock.lock();
+        try {
+            isPaused = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void resume() {
+        lock.lock();
+        try {
+            isPaused = false;
+            resumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isPaused() {
+        lock.lock();
+        try {
+            return isPaused;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops all actors of the board
+     */
+    public void shutdown() {
+        isRunning = false;
+        executor.shutdownNow();
+    }
+}
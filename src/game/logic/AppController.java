@@ -3,6 +3,7 @@ package game.logic;
 import game.gui.GameView;
 import game.gui.utils.UIUtils;
 import game.gui.board.BoardFrame;
+import game.logic.log.Logger;
 import game.logic.player.PlayersManager;
 
 import javax.swing.*;
@@ -14,6 +15,7 @@ import java.awt.event.KeyListener;
  * Also implements singleton pattern
  */
 public class AppController implements KeyListener {
+    private static final Logger log;
 
     // singleton
     private static AppController instance;
@@ -23,6 +25,7 @@ public class AppController implements KeyListener {
 
     // block of a static initialization
     static {
+        log = Logger.of(AppController.class);
         instance = null;
     }
 
@@ -45,10 +48,10 @@ public class AppController implements KeyListener {
         if (key == 'm' && !(e.getSource() instanceof JFormattedTextField)) {
             // TODO: mute
             if (UIUtils.isMutated()) {
-                System.out.println("Unmute all sounds music");
+                log.debug("Unmute all sounds & music");
                 UIUtils.unmute();
             } else {
-                System.out.println("Mute all sounds music");
+                log.debug("Mute all sounds & music");
                 UIUtils.mute();
             }
         }
@@ -0,0 +1,86 @@
+package game.logic;
+
+import game.logic.hero.GhostModel;
+import game.logic.hero.HeroModel;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds a ghost which touches pacman. Ghosts are put into buckets
+ * by the cell they are in, and since the death radius is less than a cell
+ * only ghosts from the 3x3 cells around pacman are compared.
+ * Buckets are linked lists over arrays, so nothing is allocated per tick
+ */
+class CollisionGrid {
+    private final int width;
+    private final int height;
+    /**
+     * first ghost (index in the list) of every cell bucket, -1 if the bucket is empty
+     */
+    private final int[] heads;
+    /**
+     * next ghost in the same bucket
+     */
+    private int[] next;
+    private int[] usedCells;
+    private int usedCount;
+
+    CollisionGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        heads = new int[width * height];
+        Arrays.fill(heads, -1);
+        next = new int[16];
+        usedCells = new int[16];
+    }
+
+    /**
+     * @param radius distance (units) at which ghost catches pacman
+     * @return the nearest ghost which catches pacman or null
+     */
+    GhostModel findCatcher(HeroModel pacman, List<GhostModel> ghosts, int radius) {
+        if (next.length < ghosts.size()) {
+            next = new int[ghosts.size() * 2];
+            usedCells = new int[ghosts.size() * 2];
+        }
+        for (int g = 0; g < ghosts.size(); g++) {
+            var ghost = ghosts.get(g);
+            if (ghost.isRemoved() || !ghost.canCatch()) {
+                continue;
+            }
+            int cell = ghost.getRow() * width + ghost.getColumn();
+            if (heads[cell] < 0) {
+                usedCells[usedCount++] = cell;
+            }
+            next[g] = heads[cell];
+            heads[cell] = g;
+        }
+
+        GhostModel catcher = null;
+        long minDistance = (long) radius * radius;
+        int row = pacman.getRow();
+        int column = pacman.getColumn();
+        for (int i = Math.max(0, row - 1); i <= Math.min(height - 1, row + 1); i++) {
+            for (int j = Math.max(0, column - 1); j <= Math.min(width - 1, column + 1); j++) {
+                for (int g = heads[i * width + j]; g >= 0; g = next[g]) {
+                    var ghost = ghosts.get(g);
+                    long dx = ghost.getX() - pacman.getX();
+                    long dy = ghost.getY() - pacman.getY();
+                    long distance = dx * dx + dy * dy;
+                    if (distance <= minDistance) {
+                        minDistance = distance;
+                        catcher = ghost;
+                    }
+                }
+            }
+        }
+
+        // empty only the used buckets
+        for (int k = 0; k < usedCount; k++) {
+            heads[usedCells[k]] = -1;
+        }
+        usedCount = 0;
+        return catcher;
+    }
+}
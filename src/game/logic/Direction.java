@@ -8,6 +8,11 @@ public enum Direction {
     RIGHT,
     DOWN;
 
+    /**
+     * values() creates a new array on every call
+     */
+    private static final Direction[] VALUES = values();
+
     public static Direction of(int n) {
         return switch (n) {
             case 0 -> RIGHT;
@@ -27,6 +32,32 @@ public enum Direction {
         };
     }
 
+    /**
+     * @return bit of the direction in a mask of directions
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @param mask non-empty mask of directions
+     * @return the first direction of the mask in the order of declaration
+     */
+    public static Direction firstOf(int mask) {
+        return VALUES[Integer.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * @param mask mask of directions with more than n directions
+     * @return n-th (from 0) direction of the mask in the order of declaration
+     */
+    public static Direction nthOf(int mask, int n) {
+        for (int k = 0; k < n; k++) {
+            mask &= mask - 1;
+        }
+        return firstOf(mask);
+    }
+
     public boolean isOpposite(Direction direction) {
         return switch (this) {
             case RIGHT -> direction == LEFT;
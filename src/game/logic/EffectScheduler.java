@@ -0,0 +1,124 @@
+package game.logic;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel of active powers. Effects are put into slots by their deadline
+ * and only the slots passed since the previous advance are visited, so a step costs
+ * nothing while no power ends. The wheel has its own clock, which runs only
+ * while the game advances it, so powers are not consumed during a pause
+ */
+class EffectScheduler {
+
+    private static class Effect {
+        final Power power;
+        long deadline;              // nanoseconds
+
+        Effect(Power power, long deadline) {
+            this.power = power;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final int SLOT_SHIFT;                // slot is 2^SLOT_SHIFT nanoseconds (~8 ms)
+    private static final int SLOTS;                     // power of two
+    private final ArrayList<ArrayList<Effect>> wheel;
+    /**
+     * number of active effects of every power
+     */
+    private final int[] stacks;
+    /**
+     * the latest effect of every power, which is extended or restarted
+     */
+    private final Effect[] latest;
+    private final Consumer<Power> onExpired;
+    private long time;                                  // nanoseconds
+
+    static {
+        SLOT_SHIFT = 23;
+        SLOTS = 512;
+    }
+
+    {
+        wheel = new ArrayList<>(SLOTS);
+        for (int k = 0; k < SLOTS; k++) {
+            wheel.add(new ArrayList<>(2));
+        }
+        stacks = new int[Power.values().length];
+        latest = new Effect[Power.values().length];
+    }
+
+    /**
+     * @param onExpired is called after every effect ends, when the power is still active
+     *                  if other stacked effects of it remain
+     */
+    EffectScheduler(Consumer<Power> onExpired) {
+        this.onExpired = onExpired;
+    }
+
+    /**
+     * Starts the effect of the power according to its stacking
+     * @return whether the power was not active before
+     */
+    boolean add(Power power) {
+        int index = power.ordinal();
+        var active = latest[index];
+        if (active == null || power.getStacking() == Power.Stacking.STACK) {
+            var effect = new Effect(power, time + power.getDuration());
+            slotOf(effect.deadline).add(effect);
+            latest[index] = effect;
+            stacks[index] += 1;
+            return stacks[index] == 1;
+        }
+        slotOf(active.deadline).remove(active);
+        active.deadline = switch (power.getStacking()) {
+            case EXTEND -> active.deadline + power.getDuration();
+            default -> time + power.getDuration();
+        };
+        slotOf(active.deadline).add(active);
+        return false;
+    }
+
+    /**
+     * Moves the clock of the wheel and ends all effects whose deadline has come
+     */
+    void advance(long elapsedNanos) {
+        long previousSlot = time >> SLOT_SHIFT;
+        time += elapsedNanos;
+        long currentSlot = time >> SLOT_SHIFT;
+        // a whole turn visits every slot, so longer steps need not visit slots twice
+        long first = Math.max(previousSlot, currentSlot - SLOTS + 1);
+        for (long slot = first; slot <= currentSlot; slot++) {
+            expire(wheel.get((int) (slot & (SLOTS - 1))));
+        }
+    }
+
+    private void expire(ArrayList<Effect> slot) {
+        for (int k = slot.size() - 1; k >= 0; k--) {
+            var effect = slot.get(k);
+            if (effect.deadline > time) {
+                continue;
+            }
+            slot.remove(k);
+            int index = effect.power.ordinal();
+            stacks[index] -= 1;
+            if (latest[index] == effect) {
+                latest[index] = null;
+            }
+            onExpired.accept(effect.power);
+        }
+    }
+
+    private ArrayList<Effect> slotOf(long deadline) {
+        return wheel.get((int) ((deadline >> SLOT_SHIFT) & (SLOTS - 1)));
+    }
+
+    boolean isActive(Power power) {
+        return stacks[power.ordinal()] > 0;
+    }
+
+    int getStacks(Power power) {
+        return stacks[power.ordinal()];
+    }
+}
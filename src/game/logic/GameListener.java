@@ -0,0 +1,77 @@
+package game.logic;
+
+import game.logic.board.Fruit;
+import game.logic.hero.GhostModel;
+
+/**
+ * Receives notifications about everything that happens in a game model,
+ * e.g. to display it. All methods are called by the thread that advances the game,
+ * so a Swing listener passes the changes of its components to the event dispatch thread
+ */
+public interface GameListener {
+
+    /**
+     * New pacman is placed on a board and waits for the round start
+     */
+    default void onRoundPrepared() {
+
+    }
+
+    default void onRoundStarted() {
+
+    }
+
+    default void onGhostSpawned(GhostModel ghost) {
+
+    }
+
+    /**
+     * Point or fruit in the cell [i][j] is eaten or dropped
+     */
+    default void onCellChanged(int i, int j) {
+
+    }
+
+    default void onChomp(boolean isEating) {
+
+    }
+
+    default void onScoreChanged(int score) {
+
+    }
+
+    default void onLivesChanged(int lives) {
+
+    }
+
+    default void onFruitEaten(Fruit fruit) {
+
+    }
+
+    default void onPowerAdded(Power power) {
+
+    }
+
+    default void onPowerRemoved(Power power) {
+
+    }
+
+    /**
+     * Ghost has reached pacman, all ghosts are removed from the board
+     */
+    default void onPacmanCaught() {
+
+    }
+
+    default void onPacmanDeath() {
+
+    }
+
+    default void onGameWon() {
+
+    }
+
+    default void onGameLost() {
+
+    }
+}
@@ -0,0 +1,108 @@
+package game.logic;
+
+import game.logic.metrics.Histogram;
+import game.logic.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single thread which advances the whole game with a fixed time step.
+ * Real elapsed time is accumulated and spent in ticks of the same length,
+ * so the game behaves identically regardless of the scheduling jitter
+ */
+public class GameLoop {
+
+    /**
+     * Something that is advanced by the game loop
+     */
+    @FunctionalInterface
+    public interface Tickable {
+        void tick(long elapsedNanos);
+    }
+
+    /**
+     * if the loop is late more than this (e.g. after GC pause),
+     * the rest of the time is dropped instead of running all missed ticks
+     */
+    private static final long MAX_FRAME_TIME;           // nanoseconds
+    private final long tickNanos;
+    private final ArrayList<Tickable> tickables;
+    private Tickable frameListener;
+    private volatile boolean isRunning;
+    private final Histogram tickTime;
+    private final Histogram frameTime;
+
+    static {
+        MAX_FRAME_TIME = 250_000_000;
+    }
+
+    {
+        tickables = new ArrayList<>();
+        frameListener = elapsedNanos -> {};
+        tickTime = Metrics.histogram("loop.tick");
+        frameTime = Metrics.histogram("loop.frame");
+    }
+
+    public GameLoop(int tickMillis) {
+        this.tickNanos = tickMillis * 1_000_000L;
+    }
+
+    /**
+     * @param tickable is advanced every tick in the order of adding
+     */
+    public void add(Tickable tickable) {
+        tickables.add(tickable);
+    }
+
+    /**
+     * @param frameListener is called once after all ticks of a loop iteration
+     *                      with time passed since the previous call
+     */
+    public void setFrameListener(Tickable frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    public void start() {
+        isRunning = true;
+        var thread = new Thread(this::run, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        isRunning = false;
+    }
+
+    private void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        while (isRunning) {
+            long now = System.nanoTime();
+            accumulator += Math.min(now - previous, MAX_FRAME_TIME);
+            previous = now;
+
+            int ticks = 0;
+            while (accumulator >= tickNanos) {
+                long tickStart = System.nanoTime();
+                for (var tickable : tickables) {
+                    tickable.tick(tickNanos);
+                }
+                tickTime.record(System.nanoTime() - tickStart);
+                accumulator -= tickNanos;
+                ticks += 1;
+            }
+            if (ticks > 0) {
+                long frameStart = System.nanoTime();
+                frameListener.tick(ticks * tickNanos);
+                frameTime.record(System.nanoTime() - frameStart);
+            }
+
+            // wait till the next tick
+            long sleep = tickNanos - accumulator - (System.nanoTime() - now);
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+}
@@ -0,0 +1,707 @@
+package game.logic;
+
+import game.logic.board.Board;
+import game.logic.board.DistanceField;
+import game.logic.board.Fruit;
+import game.logic.hero.GhostModel;
+import game.logic.hero.HeroModel;
+import game.logic.hero.PacmanModel;
+import game.logic.jfr.GameplayEvent;
+import game.logic.jfr.TickPhaseEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Game rules: score, lives, powers, movement of pacman & ghosts.
+ * It knows nothing about Swing, so it can be run without any window
+ * by calling step() with elapsed time (nanoseconds).
+ * The model is guarded by a lock rather than a monitor, so a virtual thread does not pin
+ * its carrier, and the listener is notified after the lock is released: a callback may block
+ * e.g. on loading a sound or call the model back
+ */
+public class GameModel {
+    public enum State {
+        READY,          // waiting for the round start
+        RUNNING,
+        PAUSED,
+        DYING,          // pacman is caught, waiting for the next round
+        WON,
+        LOST,
+        ENDED
+    }
+
+    private static final int MAX_LIVES;
+    private static final long DEATH_DELAY;              // nanoseconds
+    private static final long NEXT_ROUND_DELAY;         // nanoseconds
+    private final Board board;
+    private final Random random;
+    private GameListener listener;
+    private final ReentrantLock lock;
+    /**
+     * notifications collected while the lock is held, they are dispatched by the outermost unlock
+     */
+    private final ArrayList<Runnable> pendingEvents;
+    private final GameListener events;
+    /**
+     * written under the lock, read by the view & actor threads without it
+     */
+    private volatile State state;
+    private volatile PacmanModel pacman;
+    private GhostCage ghostCage;
+    private final ArrayList<GhostModel> ghosts;
+    private final CollisionGrid collisions;
+    private final DistanceField pacmanDistances;
+    private volatile int score;
+    private volatile int lives;
+    private int coinsMultiplier;
+    /**
+     * time (nanoseconds) spent in running & dying states, is read by the HUD every frame
+     */
+    private volatile long time;
+    private long caughtTime;
+    private final EffectScheduler effects;
+
+    static {
+        MAX_LIVES = 5;
+        DEATH_DELAY = TimeUnit.MILLISECONDS.toNanos(200);
+        NEXT_ROUND_DELAY = TimeUnit.MILLISECONDS.toNanos(1000);
+    }
+
+    {
+        listener = new GameListener() {};
+        lock = new ReentrantLock();
+        pendingEvents = new ArrayList<>();
+        events = new DeferredListener();
+        ghosts = new ArrayList<>(10);
+        effects = new EffectScheduler(this::onPowerExpired);
+        score = 0;
+        lives = 3;
+        coinsMultiplier = 1;
+    }
+
+    /**
+     * @param board board with a built maze
+     */
+    public GameModel(Board board, Random random) {
+        this.board = board;
+        this.random = random;
+        collisions = new CollisionGrid(board.getWidth(), board.getHeight());
+        pacmanDistances = new DistanceField(board);
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Places new pacman & ghost cage on a board, after that
+     * the game waits till the round is started
+     */
+    public void prepareRound() {
+        lock.lock();
+        try {
+            // find random point on the board, where we can place a pacman
+            int i, j;
+            do {
+                i = random.nextInt(1, board.getHeight() - 1);
+                j = random.nextInt(1, board.getWidth() - 1);
+            } while (!board.isFreeAt(i, j));
+
+            int exits = board.exitsFrom(i, j);
+            pacman = new PacmanModel(board, i, j,
+                    Direction.nthOf(exits, random.nextInt(Integer.bitCount(exits))));
+            if (effects.isActive(Power.SPEED_UP)) {
+                pacman.speedUp();
+            }
+            board.eatPointAt(i, j);
+            events.onCellChanged(i, j);
+            trackPacman();
+
+            state = State.READY;
+            events.onRoundPrepared();
+            ghostCage = new GhostCage(getNumberOfGhosts());
+        } finally {
+            unlock();
+        }
+    }
+
+    public void startRound() {
+        lock.lock();
+        try {
+            if (state == State.READY) {
+                state = State.RUNNING;
+                lives -= 1;
+                events.onLivesChanged(lives);
+                events.onRoundStarted();
+                GameplayEvent.emit(GameplayEvent.ROUND_START, null, pacman.getRow(), pacman.getColumn(), score, lives);
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    public void pauseResume() {
+        lock.lock();
+        try {
+            if (state == State.RUNNING) {
+                state = State.PAUSED;
+            } else if (state == State.PAUSED) {
+                state = State.RUNNING;
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    public void endGame() {
+        lock.lock();
+        try {
+            state = State.ENDED;
+            removeGhosts();
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Advances the whole game
+     * @param elapsedNanos time passed since the last step
+     */
+    public void step(long elapsedNanos) {
+        lock.lock();
+        try {
+            tickTimers(elapsedNanos);
+            var movement = new TickPhaseEvent(TickPhaseEvent.MOVEMENT);
+            movement.begin();
+            movePacman(elapsedNanos);
+            // ghosts are added & removed only by timers & collisions
+            for (int k = 0; k < ghosts.size(); k++) {
+                moveGhost(ghosts.get(k), elapsedNanos);
+            }
+            movement.commit();
+            findCatch();
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Advances powers, ghost spawning & delay after pacman death
+     */
+    public void advanceTimers(long elapsedNanos) {
+        lock.lock();
+        try {
+            tickTimers(elapsedNanos);
+        } finally {
+            unlock();
+        }
+    }
+
+    private void tickTimers(long elapsedNanos) {
+        var event = new TickPhaseEvent(TickPhaseEvent.EFFECTS);
+        event.begin();
+        advanceClocks(elapsedNanos);
+        event.commit();
+    }
+
+    private void advanceClocks(long elapsedNanos) {
+        if (state == State.DYING) {
+            long sinceCaught = time - caughtTime;
+            time += elapsedNanos;
+            if (sinceCaught < DEATH_DELAY && time - caughtTime >= DEATH_DELAY) {
+                events.onPacmanDeath();
+            }
+            if (time - caughtTime >= DEATH_DELAY + NEXT_ROUND_DELAY) {
+                endRound();
+            }
+            return;
+        }
+        if (state != State.RUNNING) {
+            return;
+        }
+        time += elapsedNanos;
+        ghostCage.advance(elapsedNanos);
+        effects.advance(elapsedNanos);
+    }
+
+    public void advancePacman(long elapsedNanos) {
+        lock.lock();
+        try {
+            movePacman(elapsedNanos);
+        } finally {
+            unlock();
+        }
+    }
+
+    private void movePacman(long elapsedNanos) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        int units = pacman.consume(elapsedNanos);
+        while (units > 0 && state == State.RUNNING) {
+            boolean wasFrozen = pacman.isFrozen();
+            int passed = pacman.step(units);
+            if (passed == 0) {
+                if (!wasFrozen && pacman.isFrozen()) {
+                    events.onChomp(false);
+                }
+                break;
+            }
+            units -= passed;
+            if (pacman.isExactlyInCell()) {
+                trackPacman();
+                pacmanMoveToNextCell(pacman.getRow(), pacman.getColumn());
+            }
+        }
+    }
+
+    public void advanceGhost(GhostModel ghost, long elapsedNanos) {
+        lock.lock();
+        try {
+            moveGhost(ghost, elapsedNanos);
+        } finally {
+            unlock();
+        }
+    }
+
+    private void moveGhost(GhostModel ghost, long elapsedNanos) {
+        if (state != State.RUNNING || ghost.isRemoved()) {
+            return;
+        }
+        if (ghost.isLookingAround()) {
+            ghost.lookAround(elapsedNanos);
+            return;
+        }
+        int units = ghost.consume(elapsedNanos);
+        while (units > 0 && state == State.RUNNING) {
+            boolean wasInCage = ghost.isInCage();
+            units -= ghost.step(units);
+            if (wasInCage && !ghost.isInCage()) {
+                ghostCage.onGhostLeft();
+            }
+            int fruitCell = ghost.pollDroppedFruit();
+            if (fruitCell >= 0) {
+                int i = board.rowOf(fruitCell);
+                int j = board.columnOf(fruitCell);
+                board.addFruitAt(ghost.getFruit(), i, j);
+                events.onCellChanged(i, j);
+            }
+        }
+    }
+
+    /**
+     * Collision phase of a tick: called once after all heroes have moved,
+     * so there is exactly one authoritative kill
+     */
+    public void resolveCollisions() {
+        lock.lock();
+        try {
+            findCatch();
+        } finally {
+            unlock();
+        }
+    }
+
+    private void findCatch() {
+        if (state != State.RUNNING) {
+            return;
+        }
+        var event = new TickPhaseEvent(TickPhaseEvent.COLLISION);
+        event.begin();
+        if (collisions.findCatcher(pacman, ghosts, HeroModel.DEATH_RADIUS) != null) {
+            catchPacman();
+        }
+        event.commit();
+    }
+
+    public void changeDirection(Direction newDirection) {
+        lock.lock();
+        try {
+            if (state != State.RUNNING) {
+                return;
+            }
+            var event = new TickPhaseEvent(TickPhaseEvent.INPUT);
+            event.begin();
+            try {
+                turnPacman(newDirection);
+            } finally {
+                event.commit();
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    private void turnPacman(Direction newDirection) {
+        var pacmanDirection = pacman.getDirection();
+        if (newDirection == pacmanDirection) {
+            return;
+        }
+        int i = pacman.getRow();
+        int j = pacman.getColumn();
+        if (pacmanDirection.isOpposite(newDirection)) {
+            pacman.turn(newDirection, board.findTarget(newDirection, i, j));
+            return;
+        }
+        boolean isExactlyInCell = pacman.isExactlyInCell();
+        if (!isExactlyInCell) {
+            // direction will be changed in the next cell
+            switch (pacmanDirection) {
+                case RIGHT -> j += 1;
+                case DOWN -> i += 1;
+            }
+        }
+        if (!board.hasExit(newDirection, i, j)) {
+            return;
+        }
+        if (isExactlyInCell) {
+            pacman.turn(newDirection, board.findTarget(newDirection, i, j));
+        } else {
+            pacman.turnInNextCell(newDirection, board.findTarget(newDirection, i, j));
+        }
+    }
+
+    /**
+     * Releases the lock, the outermost holder then dispatches the collected notifications
+     */
+    private void unlock() {
+        if (pendingEvents.isEmpty() || lock.getHoldCount() > 1) {
+            lock.unlock();
+            return;
+        }
+        var dispatched = pendingEvents.toArray(new Runnable[0]);
+        pendingEvents.clear();
+        lock.unlock();
+        for (var event : dispatched) {
+            event.run();
+        }
+    }
+
+    /**
+     * Ghosts can chase pacman only if it is visible
+     */
+    private void trackPacman() {
+        if (!effects.isActive(Power.INVISIBLE)) {
+            pacmanDistances.update(pacman.getRow(), pacman.getColumn());
+        } else {
+            pacmanDistances.clear();
+        }
+    }
+
+    private void pacmanMoveToNextCell(int i, int j) {
+        Fruit fruit = board.getFruitAt(i, j);
+        int points = board.eatPointAt(i, j) * coinsMultiplier;
+        if (points == 0) {
+            events.onChomp(false);
+            return;
+        }
+        score += points;
+        GameplayEvent.emit(GameplayEvent.DOT_EATEN, null, i, j, score, lives);
+        events.onCellChanged(i, j);
+        events.onScoreChanged(score);
+        events.onChomp(true);
+        if (fruit != null) {
+            eatFruit(fruit);
+        }
+        if (board.allPointsCollected()) {
+            state = State.WON;
+            removeGhosts();
+            events.onChomp(false);
+            events.onGameWon();
+        }
+    }
+
+    private void eatFruit(Fruit fruit) {
+        events.onFruitEaten(fruit);
+        GameplayEvent.emit(GameplayEvent.FRUIT_EATEN, fruit, pacman.getRow(), pacman.getColumn(), score, lives);
+        if (fruit == Fruit.BANANA && lives < MAX_LIVES) {
+            lives += 1;
+            events.onLivesChanged(lives);
+        }
+        var power = Power.of(fruit);
+        if (power == null) {
+            return;
+        }
+        boolean isNew = effects.add(power);
+        switch (power) {
+            case DOUBLE_COINS -> coinsMultiplier = 1 << effects.getStacks(power);
+            case SPEED_UP -> {
+                if (isNew) {
+                    pacman.speedUp();
+                }
+            }
+            case INVISIBLE -> trackPacman();
+        }
+        if (isNew) {
+            events.onPowerAdded(power);
+        }
+    }
+
+    /**
+     * Is called by the effect scheduler after an effect of the power has ended
+     */
+    private void onPowerExpired(Power power) {
+        switch (power) {
+            case DOUBLE_COINS -> coinsMultiplier = 1 << effects.getStacks(power);
+            case SPEED_UP -> pacman.slowDown();
+            case INVISIBLE -> trackPacman();
+        }
+        if (!effects.isActive(power)) {
+            events.onPowerRemoved(power);
+        }
+    }
+
+    private void catchPacman() {
+        if (effects.isActive(Power.INVISIBLE)) {
+            return;
+        }
+        state = State.DYING;
+        caughtTime = time;
+        GameplayEvent.emit(GameplayEvent.PACMAN_DEATH, null, pacman.getRow(), pacman.getColumn(), score, lives);
+        removeGhosts();
+        events.onChomp(false);
+        events.onPacmanCaught();
+    }
+
+    /**
+     * Stops all ghosts, their views disappear after they have seen the removal
+     */
+    private void removeGhosts() {
+        ghosts.forEach(GhostModel::remove);
+        ghosts.clear();
+    }
+
+    private void endRound() {
+        if (lives == 0) {
+            state = State.LOST;
+            events.onGameLost();
+        } else {
+            prepareRound();
+        }
+    }
+
+    private int getNumberOfGhosts() {
+        // TODO: respectively to width & height
+        int lambda = board.getWidth() * board.getHeight();
+        if (lambda < 150) {
+            return 2;
+        }
+        if (lambda < 250) {
+            return 3;
+        }
+        if (lambda < 500) {
+            return 4;
+        }
+        if (lambda < 800) {
+            return 5;
+        }
+        if (lambda < 1500) {
+            return 6;
+        }
+        if (lambda < 3000) {
+            return 7;
+        }
+        if (lambda < 5000) {
+            return 8;
+        }
+        if (lambda < 8000) {
+            return 9;
+        }
+        return 10;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public PacmanModel getPacman() {
+        return pacman;
+    }
+
+    public List<GhostModel> getGhosts() {
+        lock.lock();
+        try {
+            return List.copyOf(ghosts);
+        } finally {
+            unlock();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isRoundStarted() {
+        return state == State.RUNNING || state == State.PAUSED;
+    }
+
+    public boolean isPaused() {
+        return state == State.PAUSED;
+    }
+
+    public boolean isOver() {
+        return state == State.WON || state == State.LOST || state == State.ENDED;
+    }
+
+    /**
+     * @return time (nanoseconds) of the started rounds, except pauses
+     */
+    public long getTime() {
+        return time;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Queues notifications to the listener till the lock is released
+     */
+    private class DeferredListener implements GameListener {
+        @Override
+        public void onRoundPrepared() {
+            pendingEvents.add(() -> listener.onRoundPrepared());
+        }
+
+        @Override
+        public void onRoundStarted() {
+            pendingEvents.add(() -> listener.onRoundStarted());
+        }
+
+        @Override
+        public void onGhostSpawned(GhostModel ghost) {
+            pendingEvents.add(() -> listener.onGhostSpawned(ghost));
+        }
+
+        @Override
+        public void onCellChanged(int i, int j) {
+            pendingEvents.add(() -> listener.onCellChanged(i, j));
+        }
+
+        @Override
+        public void onChomp(boolean isEating) {
+            pendingEvents.add(() -> listener.onChomp(isEating));
+        }
+
+        @Override
+        public void onScoreChanged(int score) {
+            pendingEvents.add(() -> listener.onScoreChanged(score));
+        }
+
+        @Override
+        public void onLivesChanged(int lives) {
+            pendingEvents.add(() -> listener.onLivesChanged(lives));
+        }
+
+        @Override
+        public void onFruitEaten(Fruit fruit) {
+            pendingEvents.add(() -> listener.onFruitEaten(fruit));
+        }
+
+        @Override
+        public void onPowerAdded(Power power) {
+            pendingEvents.add(() -> listener.onPowerAdded(power));
+        }
+
+        @Override
+        public void onPowerRemoved(Power power) {
+            pendingEvents.add(() -> listener.onPowerRemoved(power));
+        }
+
+        @Override
+        public void onPacmanCaught() {
+            pendingEvents.add(() -> listener.onPacmanCaught());
+        }
+
+        @Override
+        public void onPacmanDeath() {
+            pendingEvents.add(() -> listener.onPacmanDeath());
+        }
+
+        @Override
+        public void onGameWon() {
+            pendingEvents.add(() -> listener.onGameWon());
+        }
+
+        @Override
+        public void onGameLost() {
+            pendingEvents.add(() -> listener.onGameLost());
+        }
+    }
+
+    /**
+     * Spawns ghosts one by one: next ghost appears in the cage
+     * some time after the previous one has left it
+     */
+    private class GhostCage {
+        /**
+         * uses to add new ghost to the game
+         */
+        private final Deque<Fruit> newGhostQueue;
+        private final Deque<Fruit> spawnQueue;
+        /**
+         * time (nanoseconds) till the next ghost appears, negative if no ghost is expected
+         */
+        private long spawnTimer;
+
+        {
+            newGhostQueue = new LinkedList<>();
+            spawnQueue = new LinkedList<>();
+            spawnTimer = -1;
+        }
+
+        GhostCage(int numberOfGhosts) {
+            assert numberOfGhosts > 0;
+            for (int k = 0; k < numberOfGhosts; ++k) {
+                addGhostToSpawnQueue();
+            }
+            addNewGhost();
+        }
+
+        private void refillNewGhostQueue() {
+            ArrayList<Fruit> list = new ArrayList<>(Arrays.asList(Fruit.values()));
+            Collections.shuffle(list, random);
+            newGhostQueue.addAll(list);
+        }
+
+        private void addGhostToSpawnQueue() {
+            if (newGhostQueue.isEmpty()) {
+                refillNewGhostQueue();
+            }
+            spawnQueue.addLast(newGhostQueue.poll());
+        }
+
+        private void addNewGhost() {
+            var ghost = new GhostModel(board, spawnQueue.poll(), pacmanDistances, random);
+            ghosts.add(ghost);
+            events.onGhostSpawned(ghost);
+        }
+
+        void onGhostLeft() {
+            spawnTimer = TimeUnit.MILLISECONDS.toNanos(random.nextInt(200, 1000));
+        }
+
+        void advance(long elapsedNanos) {
+            if (spawnTimer < 0 || spawnQueue.isEmpty()) {
+                return;
+            }
+            spawnTimer -= elapsedNanos;
+            if (spawnTimer < 0) {
+                // put new ghost in the cage
+                addNewGhost();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package game.logic;
+
+import game.logic.board.Fruit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temporary powers which pacman gets from eating fruits
+ */
+public enum Power {
+    DOUBLE_COINS,       // apple
+    SPEED_UP,           // chilly pepper
+    INVISIBLE;          // melon
+
+    /**
+     * How a power which is eaten while it is active is combined with the active one
+     */
+    public enum Stacking {
+        STACK,          // every fruit is a separate effect, e.g. coins are doubled once more
+        EXTEND,         // the duration is added to the rest of the active effect
+        RESTART         // the active effect starts again with the full duration
+    }
+
+    public Fruit getFruit() {
+        return switch (this) {
+            case DOUBLE_COINS -> Fruit.APPLE;
+            case SPEED_UP -> Fruit.PEPPER;
+            case INVISIBLE -> Fruit.MELON;
+        };
+    }
+
+    /**
+     * @return time (nanoseconds) of the power given by one fruit
+     */
+    public long getDuration() {
+        return switch (this) {
+            case DOUBLE_COINS -> TimeUnit.MILLISECONDS.toNanos(18_000);
+            case SPEED_UP -> TimeUnit.MILLISECONDS.toNanos(10_000);
+            case INVISIBLE -> TimeUnit.MILLISECONDS.toNanos(28_900);
+        };
+    }
+
+    public Stacking getStacking() {
+        return switch (this) {
+            case DOUBLE_COINS -> Stacking.STACK;
+            case SPEED_UP -> Stacking.EXTEND;
+            case INVISIBLE -> Stacking.RESTART;
+        };
+    }
+
+    /**
+     * @return power given by the fruit or null if the fruit gives no power
+     */
+    public static Power of(Fruit fruit) {
+        for (var power : values()) {
+            if (power.getFruit() == fruit) {
+                return power;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return switch (this) {
+            case DOUBLE_COINS -> "Double Coins";
+            case SPEED_UP -> "Speed Up";
+            case INVISIBLE -> "Invisible";
+        };
+    }
+}
@@ -23,8 +23,4 @@ public class Utils {
     public static boolean success(double chance) {
         return random.nextDouble() < chance;
     }
-
-    public static double dist(int x1, int y1, int x2, int y2) {
-        return Math.sqrt(Math.pow(x1 - x2, 2) + Math.pow(y1 - y2, 2));
-    }
 }
@@ -0,0 +1,332 @@
+package game.logic.board;
+
+import game.logic.Direction;
+import game.logic.exception.GameException;
+
+/**
+ * Model of a game board: walls, points and fruits.
+ * Every kind of content is a bitset packed into longs (bit i * width + j for the cell [i][j]),
+ * so a 100x100 board takes a few KB instead of thousands of objects.
+ * Does not depend on Swing, so it can be used by a headless game
+ */
+public class Board {
+    private final int width;
+    private final int height;
+    private final long[] walls;
+    /**
+     * free cells, so a cell which is neither a wall nor free is not set yet
+     */
+    private final long[] free;
+    private final long[] points;
+    private final long[] fruits;
+    /**
+     * ordinal of the fruit lying in a cell, valid only if the fruit bit is set
+     */
+    private final byte[] fruitTypes;
+    /**
+     * ordinal of the tile of a wall cell
+     */
+    private final byte[] tiles;
+    /**
+     * mask of directions (Direction.mask()) to free neighbours of a cell,
+     * kept up to date when a cell is set
+     */
+    private final byte[] exits;
+    /**
+     * target of findTarget() for every cell & direction (index << 2 | direction.ordinal()),
+     * rebuilt on the first call after a wall is changed
+     */
+    private final int[] corridorEnds;
+    private boolean areCorridorEndsValid;
+    /**
+     * number of points which are not eaten yet, counted on the first call
+     * after the maze is changed, negative till then
+     */
+    private int pointsLeft;
+    /**
+     * cell inside the ghost cage, where new ghosts appear
+     */
+    private int cageRow;
+    private int cageColumn;
+
+    public Board(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int words = (width * height + 63) >>> 6;
+        walls = new long[words];
+        free = new long[words];
+        points = new long[words];
+        fruits = new long[words];
+        fruitTypes = new byte[width * height];
+        tiles = new byte[width * height];
+        exits = new byte[width * height];
+        corridorEnds = new int[width * height * 4];
+        areCorridorEndsValid = false;
+        pointsLeft = -1;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return Where cell [i][j] is neither a wall nor a free cell yet
+     */
+    public boolean isUnsetAt(int i, int j) {
+        int k = checkedIndex(i, j);
+        return !get(walls, k) && !get(free, k);
+    }
+
+    public void setWallAt(int i, int j) {
+        setWallAt(Tile.NONE, i, j);
+    }
+
+    public void setWallAt(Tile tile, int i, int j) {
+        int k = checkedIndex(i, j);
+        tiles[k] = (byte) tile.ordinal();
+        set(walls, k);
+        clear(free, k);
+        clear(points, k);
+        clear(fruits, k);
+        pointsLeft = -1;
+        updateExitsAround(i, j);
+    }
+
+    /**
+     * Free cell initially contains a point
+     */
+    public void setFreeAt(int i, int j) {
+        int k = checkedIndex(i, j);
+        clear(walls, k);
+        set(free, k);
+        set(points, k);
+        clear(fruits, k);
+        pointsLeft = -1;
+        updateExitsAround(i, j);
+    }
+
+    public boolean isWallAt(int i, int j) {
+        return get(walls, checkedIndex(i, j));
+    }
+
+    /**
+     * @return picture of the wall in the cell [i][j]
+     */
+    public Tile getTileAt(int i, int j) {
+        return Tile.values()[tiles[checkedIndex(i, j)]];
+    }
+
+    public boolean isFreeAt(int i, int j) {
+        return get(free, checkedIndex(i, j));
+    }
+
+    public boolean hasPointAt(int i, int j) {
+        return get(points, checkedIndex(i, j));
+    }
+
+    /**
+     * @return fruit lying in the cell or null
+     */
+    public Fruit getFruitAt(int i, int j) {
+        int k = checkedIndex(i, j);
+        return get(fruits, k) ? Fruit.values()[fruitTypes[k]] : null;
+    }
+
+    public void addFruitAt(Fruit fruit, int i, int j) {
+        int k = checkedIndex(i, j);
+        set(fruits, k);
+        fruitTypes[k] = (byte) fruit.ordinal();
+    }
+
+    /**
+     * Fruit is eaten before the point under it
+     * @return number of points earned from crossing the cell
+     * @throws GameException attempt to get point from wall
+     */
+    public int eatPointAt(int i, int j) {
+        int k = checkedIndex(i, j);
+        if (get(walls, k)) {
+            throw new GameException("Cannot get point from wall");
+        }
+        if (get(fruits, k)) {
+            clear(fruits, k);
+            return Fruit.values()[fruitTypes[k]].getValue();
+        }
+        if (get(points, k)) {
+            clear(points, k);
+            if (pointsLeft > 0) {
+                pointsLeft -= 1;
+            }
+            return Cell.POINT_VALUE;
+        }
+        return 0;
+    }
+
+    /**
+     * @return number of points which are not eaten yet
+     */
+    public int getPointsCount() {
+        if (pointsLeft < 0) {
+            int count = 0;
+            for (long word : points) {
+                count += Long.bitCount(word);
+            }
+            pointsLeft = count;
+        }
+        return pointsLeft;
+    }
+
+    public boolean allPointsCollected() {
+        return getPointsCount() == 0;
+    }
+
+    /**
+     * Walks over cells with points & fruits, skipping 64 empty cells at once
+     * @return index of the first cell starting from the index k, which has a point or a fruit,
+     * -1 if there is no such cell
+     */
+    public int nextItemIndex(int k) {
+        int word = k >>> 6;
+        if (k < 0 || word >= points.length) {
+            return -1;
+        }
+        long bits = (points[word] | fruits[word]) & (-1L << k);
+        while (bits == 0) {
+            if (++word == points.length) {
+                return -1;
+            }
+            bits = points[word] | fruits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public void setCage(int i, int j) {
+        cageRow = i;
+        cageColumn = j;
+    }
+
+    public int getCageRow() {
+        return cageRow;
+    }
+
+    public int getCageColumn() {
+        return cageColumn;
+    }
+
+    /**
+     * @return mask of directions (Direction.mask()) in which a hero can leave the cell [i][j]
+     */
+    public int exitsFrom(int i, int j) {
+        return exits[checkedIndex(i, j)];
+    }
+
+    public boolean hasExit(Direction direction, int i, int j) {
+        return (exitsFrom(i, j) & direction.mask()) != 0;
+    }
+
+    private void updateExitsAround(int i, int j) {
+        areCorridorEndsValid = false;
+        updateExits(i, j);
+        updateExits(i, j + 1);
+        updateExits(i, j - 1);
+        updateExits(i + 1, j);
+        updateExits(i - 1, j);
+    }
+
+    private void updateExits(int i, int j) {
+        if (i < 0 || height <= i || j < 0 || width <= j) {
+            return;
+        }
+        int mask = 0;
+        if (j + 1 < width && get(free, i * width + j + 1)) {
+            mask |= Direction.RIGHT.mask();
+        }
+        if (j > 0 && get(free, i * width + j - 1)) {
+            mask |= Direction.LEFT.mask();
+        }
+        if (i + 1 < height && get(free, (i + 1) * width + j)) {
+            mask |= Direction.DOWN.mask();
+        }
+        if (i > 0 && get(free, (i - 1) * width + j)) {
+            mask |= Direction.UP.mask();
+        }
+        exits[i * width + j] = (byte) mask;
+    }
+
+    /**
+     * Finds the last free cell before a wall when moving from [i][j]
+     * @return index of a cell (i * width + j)
+     */
+    public int findTarget(Direction direction, int i, int j) {
+        int k = checkedIndex(i, j);
+        if (!areCorridorEndsValid) {
+            buildCorridorEnds();
+        }
+        return corridorEnds[k << 2 | direction.ordinal()];
+    }
+
+    /**
+     * Fills the table of targets for every cell & direction in one pass per direction:
+     * a cell has the same target as its free neighbour in that direction
+     */
+    private void buildCorridorEnds() {
+        int left = Direction.LEFT.ordinal();
+        int up = Direction.UP.ordinal();
+        int right = Direction.RIGHT.ordinal();
+        int down = Direction.DOWN.ordinal();
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                int k = i * width + j;
+                corridorEnds[k << 2 | left] = j > 0 && get(free, k - 1) ? corridorEnds[(k - 1) << 2 | left] : k;
+                corridorEnds[k << 2 | up] = i > 0 && get(free, k - width) ? corridorEnds[(k - width) << 2 | up] : k;
+            }
+        }
+        for (int i = height - 1; i >= 0; i--) {
+            for (int j = width - 1; j >= 0; j--) {
+                int k = i * width + j;
+                corridorEnds[k << 2 | right] = j + 1 < width && get(free, k + 1) ? corridorEnds[(k + 1) << 2 | right] : k;
+                corridorEnds[k << 2 | down] = i + 1 < height && get(free, k + width) ? corridorEnds[(k + width) << 2 | down] : k;
+            }
+        }
+        areCorridorEndsValid = true;
+    }
+
+    public int index(int i, int j) {
+        return i * width + j;
+    }
+
+    public int rowOf(int index) {
+        return index / width;
+    }
+
+    public int columnOf(int index) {
+        return index % width;
+    }
+
+    private int checkedIndex(int i, int j) {
+        if (i < 0 || height <= i) {
+            throw new GameException("row index " + i + " is out of bound for "
+                    + "row count " + height);
+        } else if (j < 0 || width <= j) {
+            throw new GameException("column index " + j + " is out of bound for "
+                    + "column count " + width);
+        }
+        return i * width + j;
+    }
+
+    private static boolean get(long[] bits, int k) {
+        return (bits[k >>> 6] & (1L << k)) != 0;
+    }
+
+    private static void set(long[] bits, int k) {
+        bits[k >>> 6] |= 1L << k;
+    }
+
+    private static void clear(long[] bits, int k) {
+        bits[k >>> 6] &= ~(1L << k);
+    }
+}
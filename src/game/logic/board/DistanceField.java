@@ -0,0 +1,87 @@
+package game.logic.board;
+
+import game.logic.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Number of moves from every cell to the cell of pacman.
+ * It is computed by BFS over free cells only when pacman enters a new cell,
+ * and then is read by all ghosts for free
+ */
+public class DistanceField {
+    public static final int UNREACHABLE;
+    private final Board board;
+    private final int[] distances;
+    private final int[] queue;
+    /**
+     * cell from which distances are measured, negative if the field is cleared
+     */
+    private int source;
+
+    static {
+        UNREACHABLE = Integer.MAX_VALUE;
+    }
+
+    public DistanceField(Board board) {
+        this.board = board;
+        int size = board.getWidth() * board.getHeight();
+        distances = new int[size];
+        queue = new int[size];
+        source = -1;
+    }
+
+    /**
+     * Measures distances from the cell [i][j] unless they are already measured from it
+     */
+    public void update(int i, int j) {
+        int start = board.index(i, j);
+        if (start == source) {
+            return;
+        }
+        source = start;
+        Arrays.fill(distances, UNREACHABLE);
+        int width = board.getWidth();
+        int head = 0;
+        int tail = 0;
+        distances[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int cell = queue[head++];
+            int exits = board.exitsFrom(board.rowOf(cell), board.columnOf(cell));
+            int distance = distances[cell] + 1;
+            while (exits != 0) {
+                var direction = Direction.firstOf(exits);
+                exits &= exits - 1;
+                int neighbour = switch (direction) {
+                    case LEFT -> cell - 1;
+                    case UP -> cell - width;
+                    case RIGHT -> cell + 1;
+                    case DOWN -> cell + width;
+                };
+                if (distances[neighbour] == UNREACHABLE) {
+                    distances[neighbour] = distance;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the source, e.g. when pacman cannot be seen
+     */
+    public void clear() {
+        source = -1;
+    }
+
+    public boolean isTracking() {
+        return source >= 0;
+    }
+
+    /**
+     * @return number of moves from the cell [i][j] to the source or UNREACHABLE
+     */
+    public int distanceAt(int i, int j) {
+        return distances[board.index(i, j)];
+    }
+}
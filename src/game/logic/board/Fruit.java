@@ -0,0 +1,47 @@
+package game.logic.board;
+
+import game.logic.exception.GameException;
+
+/**
+ * Fruit which ghosts leave on the board. Each ghost color leaves its own fruit
+ */
+public enum Fruit {
+    EGGPLANT,       // eat monsters
+    BANANA,         // +1 live
+    CHERRY,         // -1 ghost for 30 sec
+    MELON,          // invisible
+    APPLE,          // double money
+    PEPPER;         // increase velocity
+
+    public int getValue() {
+        return switch (this) {
+            case EGGPLANT -> Cell.EGGPLANT_VALUE;
+            case BANANA -> Cell.BANANA_VALUE;
+            case CHERRY -> Cell.CHERRY_VALUE;
+            case MELON -> Cell.MELON_VALUE;
+            case APPLE -> Cell.APPLE_VALUE;
+            case PEPPER -> Cell.PEPPER_VALUE;
+        };
+    }
+
+    /**
+     * @return time (milliseconds) between two attempts of a ghost to leave this fruit
+     */
+    public int getSpawnGap() {
+        return switch (this) {
+            case EGGPLANT -> 8_000;
+            case BANANA -> 20_000;
+            case CHERRY, APPLE, PEPPER -> 5_000;
+            case MELON -> 10_000;
+        };
+    }
+
+    public static Fruit of(int fruitValue) {
+        for (var fruit : values()) {
+            if (fruit.getValue() == fruitValue) {
+                return fruit;
+            }
+        }
+        throw new GameException("Invalid fruit value " + fruitValue);
+    }
+}
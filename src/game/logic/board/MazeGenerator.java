@@ -0,0 +1,870 @@
+package game.logic.board;
+
+import game.logic.exception.GameException;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static game.logic.board.Tile.*;
+
+/**
+ * Builds a maze on a board: border, ghost cage, random blocks of walls.
+ * Works only with the board model, so the view displays the maze once it is built
+ * and a maze can be generated without any window
+ */
+public class MazeGenerator {
+    private final Board board;
+    private final Random random;
+    private final PlacementIndex placements;
+
+    public MazeGenerator(Board board, Random random) {
+        this.board = board;
+        this.random = random;
+        placements = new PlacementIndex(board);
+    }
+
+    /**
+     * Every cell of the board becomes either a wall or a free cell with a point
+     */
+    public void generate() {
+        setBorder();
+        addGhostsCage();
+        // TODO: add maze itself
+        addWallBlocks();
+        fillUnSetCells();
+    }
+
+    private void addWallBlocks() {
+        WallFactory factory = new WallFactory();
+        int n = 0;
+        while (n < 5) {
+
+            if (!factory.getRandomBlock().draw()) {
+                n += 1;
+            } else {
+                n = 0;
+            }
+        }
+    }
+
+    // setting border and filling other cells with free cell
+    private void setBorder() {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        addWallAt(CORNER_RIGHT_DOWN, 0, 0);
+        addWallAt(CORNER_LEFT_DOWN, 0, width - 1);
+        addWallAt(CORNER_LEFT_UP, height - 1, width - 1);
+        addWallAt(CORNER_RIGHT_UP, height - 1, 0);
+        for (int i = 1; i < height - 1; ++i) {
+            addWallAt(BORDER_RIGHT, i, 0);
+            addWallAt(BORDER_LEFT, i, width - 1);
+        }
+        for (int j = 1; j < width - 1; ++j) {
+            addWallAt(BORDER_DOWN, 0, j);
+            addWallAt(BORDER_UP, height - 1, j);
+        }
+    }
+
+    private void addGhostsCage() {
+        // cage itself is 3x3, but it has padding around it so 5x5
+        // 10x10 -> 2-3, 2-3   from 2 -> width - 6
+
+        int beginI, beginJ;
+        beginI = random.nextInt(2, board.getHeight() - 6);
+        beginJ = random.nextInt(2, board.getWidth() - 6);
+
+        for (int i = beginI; i < beginI + 5; ++i) {
+            addFreeAt(i, beginJ + 4);
+        }
+        for (int j = beginJ + 1; j < beginJ + 4; ++j) {
+            addFreeAt(beginI, j);
+            addFreeAt(beginI + 4, j);
+        }
+
+        int i = beginI + 1;
+        int j = beginJ + 1;
+
+        addWallAt(WALL_1_UP, i, j);
+        addWallAt(VERTICAL, i + 1, j);
+        addWallAt(WALL_2_RIGHT_UP, i + 2, j);
+        addWallAt(HORIZONTAL, i + 2, j + 1);
+        addWallAt(WALL_2_LEFT_UP, i + 2, j + 2);
+        addWallAt(VERTICAL, i + 1, j + 2);
+        addWallAt(WALL_1_UP, i, j + 2);
+        addWallAt(GATE, i, j + 1);
+        addWallAt(NONE, i + 1, j + 1);
+
+        board.setCage(i + 1, j + 1);
+    }
+
+    private void fillUnSetCells() {
+        for (int i = 1; i < board.getHeight(); ++i) {
+            for (int j = 1; j < board.getWidth(); ++j) {
+                if (board.isUnsetAt(i, j)) {
+                    addFreeAt(i, j);
+                }
+            }
+        }
+    }
+
+    private void addFreeAt(int i, int j) {
+        assert !board.isWallAt(i, j);
+        if (board.isWallAt(i, j)) {
+            throw new GameException("Trying to paint free at wall!!!");
+        }
+        board.setFreeAt(i, j);
+    }
+
+    private void addWallAt(Tile tile, int i, int j) {
+        board.setWallAt(tile, i, j);
+        placements.invalidate(i);
+    }
+
+    private class WallFactory {
+        private final ArrayList<WallBlock> allTypes;
+
+        {
+            allTypes = new ArrayList<>(40);
+            addAllTypes(0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14);
+        }
+
+        void addAllTypes(int... types) {
+            for (var t : types) {
+                allTypes.add(new WallBlock(t));
+            }
+        }
+
+        WallBlock getRandomBlock() {
+            int f, t;
+            f = 0;
+            t = allTypes.size();
+            return allTypes.get(random.nextInt(f, t));
+        }
+
+        public class WallBlock {
+            private final int type;
+
+            private WallBlock(int type) {
+                this.type = type;
+            }
+
+            /**
+             * Trys to paint wall block on a board
+             * @return whether block is painted on a board
+             */
+            public boolean draw() {
+                return switch (type) {
+                    case 0 -> one();
+                    case 1 -> two();
+                    case 2 -> twov();
+                    case 3 -> drawBlockOfType1();
+                    case 4 -> drawBlockOfType2();
+                    case 5 -> drawBlockOfType3();
+                    case 6 -> drawBlockOfType4();
+                    case 7 -> drawBlockOfType5();
+                    case 8 -> drawBlockOfType6();
+                    case 9 -> drawBlockOfType7();
+                    case 10 -> drawBlockOfType8();
+                    case 11 -> drawBlockOfType9();
+                    case 12 -> drawBlockOfType10();
+                    case 13 -> drawBlockOfType11();
+                    case 14 -> drawBlockOfType12();
+                    default -> throw new GameException("unknown wall block type " + type);
+                };
+            }
+
+            private boolean twov() {
+                /*
+                 * 0 0 0
+                 * 0 1 0
+                 * 0 1 0
+                 * 0 0 0
+                 */
+                int w = 3;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_UP, i + 1, j + 1);
+                addFreeAt(i + 1, j + 2);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(WALL_1_DOWN, i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+
+                return true;
+            }
+
+            private boolean one() {
+                /*
+                 * 0 0 0
+                 * 0 1 0
+                 * 0 0 0
+                 */
+                int w = 3;
+                int h = 3;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(ONE, i + 1, j + 1);
+                addFreeAt(i + 1, j + 2);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+
+                return true;
+            }
+
+            private boolean two() {
+                /*
+                 * 0 0 0 0
+                 * 0 1 1 0
+                 * 0 0 0 0
+                 */
+                int w = 4;
+                int h = 3;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 2);
+                addFreeAt(i + 1, j + 3);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+
+                return true;
+            }
+
+            /**
+             * @return index of the top left cell of the block or -1
+             */
+            int findWhereToBuildBlock(int w, int h) {
+                return placements.find(w, h);
+            }
+
+            boolean drawBlockOfType1() {
+                /*
+                 * 0 0 0 0 0
+                 * 0 1 1 1 0
+                 * 0 0 0 0 0
+                 */
+                int w = 5;
+                int h = 3;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 3);
+                addFreeAt(i + 1, j + 4);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                addFreeAt(i + 2, j + 4);
+
+                return true;
+            }
+            boolean drawBlockOfType2() {
+                /*
+                 * 0 0 0
+                 * 0 1 0
+                 * 0 1 0
+                 * 0 1 0
+                 * 0 0 0
+                 */
+                int w = 3;
+                int h = 5;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_UP, i + 1, j + 1);
+                addFreeAt(i + 1, j + 2);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(VERTICAL, i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                // row 3
+                addFreeAt(i + 3, j);
+                addWallAt(WALL_1_DOWN, i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                // row 4
+                addFreeAt(i + 4, j);
+                addFreeAt(i + 4, j + 1);
+                addFreeAt(i + 4, j + 2);
+
+                return true;
+            }
+            boolean drawBlockOfType3() {
+                /*
+                 * 0 0 0 0
+                 * 0 1 1 0
+                 * 0 0 1 0
+                 * 0 0 0 0
+                 */
+                int w = 4;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(WALL_2_LEFT_DOWN, i + 1, j + 2);
+                addFreeAt(i + 1, j + 3);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addWallAt(WALL_1_DOWN, i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+
+                return true;
+            }
+            boolean drawBlockOfType4() {
+
+                /*
+                 * 0 0 0 0
+                 * 0 1 1 0
+                 * 0 1 0 0
+                 * 0 0 0 0
+                 */
+                int w = 4;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_2_RIGHT_DOWN, i + 1, j + 1);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 2);
+                addFreeAt(i + 1, j + 3);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(WALL_1_DOWN, i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+
+                return true;
+            }
+            boolean drawBlockOfType5() {
+                /*
+                 * 0 0 0 0
+                 * 0 1 0 0
+                 * 0 1 1 0
+                 * 0 0 0 0
+                 */
+                int w = 4;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_UP, i + 1, j + 1);
+                addFreeAt(i + 1, j + 2);
+                addFreeAt(i + 1, j + 3);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(WALL_2_RIGHT_UP, i + 2, j + 1);
+                addWallAt(WALL_1_RIGHT, i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+
+                return true;
+            }
+
+            boolean drawBlockOfType6() {
+                /*
+                 * 0 0 0 0
+                 * 0 0 1 0
+                 * 0 1 1 0
+                 * 0 0 0 0
+                 */
+                int w = 4;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                // row 1
+                addFreeAt(i + 1, j);
+                addFreeAt(i + 1, j + 1);
+                addWallAt(WALL_1_UP, i + 1, j + 2);
+                addFreeAt(i + 1, j + 3);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(WALL_1_LEFT, i + 2, j + 1);
+                addWallAt(WALL_2_LEFT_UP, i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+
+                return true;
+            }
+            boolean drawBlockOfType7() {
+                /*
+                 * 0 0 0 0 0
+                 * 0 1 1 1 0
+                 * 0 0 0 1 0
+                 * 0 0 0 0 0
+                 */
+                int w = 5;
+                int h = 4;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(WALL_2_LEFT_DOWN, i + 1, j + 3);
+                addFreeAt(i + 1, j + 4);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addWallAt(WALL_1_DOWN, i + 2, j + 3);
+                addFreeAt(i + 2, j + 4);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+                addFreeAt(i + 3, j + 4);
+
+                return true;
+            }
+            boolean drawBlockOfType8() {
+                /*
+                 * 0 0 0 0 0
+                 * 0 1 1 1 0
+                 * 0 0 0 1 0
+                 * 0 0 0 1 0
+                 * 0 0 0 0 0
+                 */
+                int w = 5;
+                int h = 5;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(WALL_2_LEFT_DOWN, i + 1, j + 3);
+                addFreeAt(i + 1, j + 4);
+                // row 2
+                addFreeAt(i + 2, j);
+                addFreeAt(i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addWallAt(VERTICAL, i + 2, j + 3);
+                addFreeAt(i + 2, j + 4);
+                // row 3
+                addFreeAt(i + 3, j);
+                addFreeAt(i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addWallAt(WALL_1_DOWN, i + 3, j + 3);
+                addFreeAt(i + 3, j + 4);
+                // row 4
+                addFreeAt(i + 4, j);
+                addFreeAt(i + 4, j + 1);
+                addFreeAt(i + 4, j + 2);
+                addFreeAt(i + 4, j + 3);
+                addFreeAt(i + 4, j + 4);
+
+                return true;
+            }
+            boolean drawBlockOfType9() {
+                /*
+                 * 0 0 0 0 0
+                 * 0 1 1 1 0
+                 * 0 1 0 0 0
+                 * 0 1 0 0 0
+                 * 0 0 0 0 0
+                 */
+                int w = 5;
+                int h = 5;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_2_RIGHT_DOWN, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 3);
+                addFreeAt(i + 1, j + 4);
+                // row 2
+                addFreeAt(i + 2, j);
+                addWallAt(VERTICAL, i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                addFreeAt(i + 2, j + 4);
+                // row 3
+                addFreeAt(i + 3, j);
+                addWallAt(WALL_1_DOWN, i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+                addFreeAt(i + 3, j + 4);
+                // row 4
+                addFreeAt(i + 4, j);
+                addFreeAt(i + 4, j + 1);
+                addFreeAt(i + 4, j + 2);
+                addFreeAt(i + 4, j + 3);
+                addFreeAt(i + 4, j + 4);
+
+                return true;
+            }
+            boolean drawBlockOfType10() {
+                /*
+                 * 0 0 0 0 0 0
+                 * 0 1 1 1 1 0
+                 * 0 1 0 0 0 0
+                 * 0 1 0 0 0 0
+                 * 0 1 0 0 0 0
+                 * 0 1 0 0 0 0
+                 * 0 1 0 0 0 0
+                 * 0 1 1 1 1 0
+                 * 0 0 0 0 0 0
+                 */
+                int w = 6;
+                int h = 9;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                addFreeAt(i, j + 5);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_2_RIGHT_DOWN, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(HORIZONTAL, i + 1, j + 3);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 4);
+                addFreeAt(i + 1, j + 5);
+                // rows 2-6
+                for (int r = 2; r <= 6; r++) {
+                    addFreeAt(i + r, j);
+                    addWallAt(VERTICAL, i + r, j + 1);
+                    addFreeAt(i + r, j + 2);
+                    addFreeAt(i + r, j + 3);
+                    addFreeAt(i + r, j + 4);
+                    addFreeAt(i + r, j + 5);
+                }
+                // row 7
+                addFreeAt(i + 7, j);
+                addWallAt(WALL_2_RIGHT_UP, i + 7, j + 1);
+                addWallAt(HORIZONTAL, i + 7, j + 2);
+                addWallAt(HORIZONTAL, i + 7, j + 3);
+                addWallAt(WALL_1_RIGHT, i + 7, j + 4);
+                addFreeAt(i + 7, j + 5);
+                // row 8
+                addFreeAt(i + 8, j);
+                addFreeAt(i + 8, j + 1);
+                addFreeAt(i + 8, j + 2);
+                addFreeAt(i + 8, j + 3);
+                addFreeAt(i + 8, j + 4);
+                addFreeAt(i + 8, j + 5);
+
+                return true;
+            }
+            boolean drawBlockOfType11() {
+                /*
+                 * 0 0 0 0 0 0
+                 * 0 1 1 1 1 0
+                 * 0 0 0 1 0 0
+                 * 0 0 0 1 0 0
+                 * 0 0 0 1 0 0
+                 * 0 0 0 1 0 0
+                 * 0 0 0 1 0 0
+                 * 0 1 1 1 1 0
+                 * 0 0 0 0 0 0
+                 */
+                int w = 6;
+                int h = 9;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                addFreeAt(i, j + 5);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_1_LEFT, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(WALL_3_DOWN, i + 1, j + 3);
+                addWallAt(WALL_1_RIGHT, i + 1, j + 4);
+                addFreeAt(i + 1, j + 5);
+                // rows 2-5
+                for (int r = 2; r <= 5; r++) {
+                    addFreeAt(i + r, j);
+                    addFreeAt(i + r, j + 1);
+                    addFreeAt(i + r, j + 2);
+                    addWallAt(VERTICAL, i + r, j + 3);
+                    addFreeAt(i + r, j + 4);
+                    addFreeAt(i + r, j + 5);
+                }
+                // row 6
+                addFreeAt(i + 6, j);
+                addFreeAt(i + 6, j + 1);
+                addFreeAt(i + 6, j + 2);
+                addWallAt(VERTICAL, i + 6, j + 3);
+                addFreeAt(i + 6, j + 4);
+                addFreeAt(i + 6, j + 5);
+                // row 7
+                addFreeAt(i + 7, j);
+                addWallAt(WALL_1_LEFT, i + 7, j + 1);
+                addWallAt(HORIZONTAL, i + 7, j + 2);
+                addWallAt(WALL_3_UP, i + 7, j + 3);
+                addWallAt(WALL_1_RIGHT, i + 7, j + 4);
+                addFreeAt(i + 7, j + 5);
+                // row 8
+                addFreeAt(i + 8, j);
+                addFreeAt(i + 8, j + 1);
+                addFreeAt(i + 8, j + 2);
+                addFreeAt(i + 8, j + 3);
+                addFreeAt(i + 8, j + 4);
+                addFreeAt(i + 8, j + 5);
+
+                return true;
+            }
+            boolean drawBlockOfType12() {
+                /*
+                 * 0 0 0 0 0 0 0 0 0 0
+                 * 0 1 1 1 1 1 1 1 1 0
+                 * 0 1 0 0 0 0 0 0 1 0
+                 * 0 1 0 0 0 0 0 0 1 0
+                 * 0 0 0 0 0 0 0 0 0 0
+                 */
+                int w = 10;
+                int h = 5;
+                int at = findWhereToBuildBlock(w, h);
+                if (at < 0) {
+                    return false;
+                }
+
+                int i = board.rowOf(at);
+                int j = board.columnOf(at);
+                // row 0
+                addFreeAt(i, j);
+                addFreeAt(i, j + 1);
+                addFreeAt(i, j + 2);
+                addFreeAt(i, j + 3);
+                addFreeAt(i, j + 4);
+                addFreeAt(i, j + 5);
+                addFreeAt(i, j + 6);
+                addFreeAt(i, j + 7);
+                addFreeAt(i, j + 8);
+                addFreeAt(i, j + 9);
+                // row 1
+                addFreeAt(i + 1, j);
+                addWallAt(WALL_2_RIGHT_DOWN, i + 1, j + 1);
+                addWallAt(HORIZONTAL, i + 1, j + 2);
+                addWallAt(HORIZONTAL, i + 1, j + 3);
+                addWallAt(HORIZONTAL, i + 1, j + 4);
+                addWallAt(HORIZONTAL, i + 1, j + 5);
+                addWallAt(HORIZONTAL, i + 1, j + 6);
+                addWallAt(HORIZONTAL, i + 1, j + 7);
+                addWallAt(WALL_2_LEFT_DOWN, i + 1, j + 8);
+                addFreeAt(i + 1, j + 9);
+                // rows 2-3
+                addFreeAt(i + 2, j);
+                addWallAt(VERTICAL, i + 2, j + 1);
+                addFreeAt(i + 2, j + 2);
+                addFreeAt(i + 2, j + 3);
+                addFreeAt(i + 2, j + 4);
+                addFreeAt(i + 2, j + 5);
+                addFreeAt(i + 2, j + 6);
+                addFreeAt(i + 2, j + 7);
+                addWallAt(VERTICAL, i + 2, j + 8);
+                addFreeAt(i + 2, j + 9);
+                // row 3
+                addFreeAt(i + 3, j);
+                addWallAt(WALL_1_DOWN, i + 3, j + 1);
+                addFreeAt(i + 3, j + 2);
+                addFreeAt(i + 3, j + 3);
+                addFreeAt(i + 3, j + 4);
+                addFreeAt(i + 3, j + 5);
+                addFreeAt(i + 3, j + 6);
+                addFreeAt(i + 3, j + 7);
+                addWallAt(WALL_1_DOWN, i + 3, j + 8);
+                addFreeAt(i + 3, j + 9);
+                // row 4
+                addFreeAt(i + 4, j);
+                addFreeAt(i + 4, j + 1);
+                addFreeAt(i + 4, j + 2);
+                addFreeAt(i + 4, j + 3);
+                addFreeAt(i + 4, j + 4);
+                addFreeAt(i + 4, j + 5);
+                addFreeAt(i + 4, j + 6);
+                addFreeAt(i + 4, j + 7);
+                addFreeAt(i + 4, j + 8);
+                addFreeAt(i + 4, j + 9);
+
+                return true;
+            }
+            boolean drawBlockOfType13() {return false;}
+            boolean drawBlockOfType14() {return false;}
+            boolean drawBlockOfType15() {return false;}
+        }
+    }
+}
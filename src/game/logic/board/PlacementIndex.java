@@ -0,0 +1,90 @@
+package game.logic.board;
+
+/**
+ * Finds where a block of walls can be built, i.e. a rectangle without walls.
+ * Keeps a summed-area table of walls, so any rectangle is checked in O(1);
+ * after walls are added only the rows below the topmost changed row are recounted,
+ * and only as far as a query needs them.
+ * Walls are only added while a maze is built, so the first place for a block
+ * never moves back, and the search for a block size resumes where it has stopped
+ */
+public class PlacementIndex {
+    private final Board board;
+    private final int width;
+    private final int height;
+    /**
+     * number of walls in [0, i) x [0, j) at index i * (width + 1) + j
+     */
+    private final int[] walls;
+    /**
+     * number of rows which are counted in the table
+     */
+    private int countedRows;
+    /**
+     * cell where the search for a block w x h starts, at index h * (width + 1) + w
+     */
+    private final int[] searchStarts;
+
+    public PlacementIndex(Board board) {
+        this.board = board;
+        width = board.getWidth();
+        height = board.getHeight();
+        walls = new int[(width + 1) * (height + 1)];
+        countedRows = 0;
+        searchStarts = new int[(width + 1) * (height + 1)];
+    }
+
+    /**
+     * Must be called when cell in the row i becomes a wall or stops being a wall
+     */
+    public void invalidate(int i) {
+        countedRows = Math.min(countedRows, i);
+    }
+
+    /**
+     * Finds the first (top to bottom, left to right) rectangle without walls inside the border
+     * @return index of the top left cell or -1
+     */
+    public int find(int w, int h) {
+        int key = h * (width + 1) + w;
+        int start = searchStarts[key];
+        for (int i = Math.max(1, board.rowOf(start)); i < height - h; ++i) {
+            int j = i == board.rowOf(start) ? Math.max(1, board.columnOf(start)) : 1;
+            for (; j < width - w; ++j) {
+                if (countWalls(i, j, w, h) == 0) {
+                    searchStarts[key] = board.index(i, j);
+                    return board.index(i, j);
+                }
+            }
+        }
+        searchStarts[key] = board.index(height - 1, 0);
+        return -1;
+    }
+
+    /**
+     * @return number of walls in the rectangle w x h with the top left cell [i][j]
+     */
+    public int countWalls(int i, int j, int w, int h) {
+        count(i + h);
+        int stride = width + 1;
+        return walls[(i + h) * stride + j + w] - walls[i * stride + j + w]
+                - walls[(i + h) * stride + j] + walls[i * stride + j];
+    }
+
+    /**
+     * Counts walls in the rows [0, rows)
+     */
+    private void count(int rows) {
+        int stride = width + 1;
+        for (int i = countedRows; i < rows; i++) {
+            int rowSum = 0;
+            for (int j = 0; j < width; j++) {
+                if (board.isWallAt(i, j)) {
+                    rowSum += 1;
+                }
+                walls[(i + 1) * stride + j + 1] = walls[i * stride + j + 1] + rowSum;
+            }
+        }
+        countedRows = Math.max(countedRows, rows);
+    }
+}
@@ -0,0 +1,33 @@
+package game.logic.board;
+
+/**
+ * Picture of a wall cell, chosen by the maze generator and drawn by the view
+ */
+public enum Tile {
+    NONE,               // wall without picture, e.g. inside the ghost cage
+    BORDER_UP,
+    BORDER_RIGHT,
+    BORDER_DOWN,
+    BORDER_LEFT,
+    CORNER_LEFT_UP,
+    CORNER_RIGHT_UP,
+    CORNER_RIGHT_DOWN,
+    CORNER_LEFT_DOWN,
+    GATE,
+    VERTICAL,
+    HORIZONTAL,
+    ONE,
+    WALL_1_LEFT,
+    WALL_1_UP,
+    WALL_1_RIGHT,
+    WALL_1_DOWN,
+    WALL_2_LEFT_DOWN,
+    WALL_2_LEFT_UP,
+    WALL_2_RIGHT_DOWN,
+    WALL_2_RIGHT_UP,
+    WALL_3_LEFT,
+    WALL_3_UP,
+    WALL_3_RIGHT,
+    WALL_3_DOWN,
+    WALL_4
+}
@@ -0,0 +1,212 @@
+package game.logic.hero;
+
+import game.logic.Direction;
+import game.logic.board.Board;
+import game.logic.board.DistanceField;
+import game.logic.board.Fruit;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static game.logic.Direction.*;
+
+public class GhostModel extends HeroModel {
+    private static final long LOOK_AROUND_NAP;          // nanoseconds
+    private static final Direction[] EYE_MOVEMENTS;
+    /**
+     * probability to take the shortest way to pacman in a cell
+     */
+    private static final double CHASE_CHANCE;
+    private final Fruit fruit;
+    private final Random random;
+    /**
+     * distances to pacman, shared by all ghosts
+     */
+    private final DistanceField pacmanDistances;
+    /**
+     * time spent looking around in the cage
+     */
+    private long lookAroundTime;
+    private int unitsToLeaveCage;
+    /**
+     * time of movement till the ghost may leave a fruit (nanoseconds)
+     */
+    private long fruitTimer;
+    /**
+     * index of a cell where ghost has left a fruit, negative if there is no such cell
+     */
+    private int fruitCell;
+    /**
+     * set by the game model under its lock, read by the ghost view without it
+     */
+    private volatile boolean isRemoved;
+
+    static {
+        LOOK_AROUND_NAP = TimeUnit.MILLISECONDS.toNanos(800);
+        EYE_MOVEMENTS = new Direction[] {
+                RIGHT, UP, DOWN, LEFT, DOWN, RIGHT, UP
+        };
+        CHASE_CHANCE = 0.5;
+    }
+
+    /**
+     * Creates a ghost inside the cage
+     * @param fruit fruit which ghost leaves on a board
+     */
+    public GhostModel(Board board, Fruit fruit, DistanceField pacmanDistances, Random random) {
+        super(board, 240, LEFT);
+        this.fruit = fruit;
+        this.pacmanDistances = pacmanDistances;
+        this.random = random;
+        placeAt(board.getCageRow(), board.getCageColumn());
+        unitsToLeaveCage = 2 * UNITS_PER_CELL;
+        fruitTimer = TimeUnit.MILLISECONDS.toNanos(fruit.getSpawnGap());
+        fruitCell = -1;
+    }
+
+    public boolean isLookingAround() {
+        return lookAroundTime < EYE_MOVEMENTS.length * LOOK_AROUND_NAP;
+    }
+
+    public void lookAround(long elapsedNanos) {
+        lookAroundTime += elapsedNanos;
+        if (!isLookingAround()) {
+            direction = UP;
+        }
+    }
+
+    /**
+     * @return direction where the ghost looks
+     */
+    public Direction getFacing() {
+        if (lookAroundTime > 0 && isLookingAround()) {
+            return EYE_MOVEMENTS[(int) (lookAroundTime / LOOK_AROUND_NAP)];
+        }
+        return direction;
+    }
+
+    @Override
+    public int consume(long elapsedNanos) {
+        fruitTimer -= elapsedNanos;
+        return super.consume(elapsedNanos);
+    }
+
+    /**
+     * Moves ghost by the given number of units, but not further than the next cell
+     * @return number of units passed
+     */
+    public int step(int units) {
+        if (unitsToLeaveCage > 0) {
+            int passed = Math.min(units, unitsToLeaveCage);
+            move(UP, passed);
+            unitsToLeaveCage -= passed;
+            return passed;
+        }
+        if (isExactlyInCell()) {
+            // leave fruit
+            if (fruitTimer <= 0) {
+                if (random.nextDouble() < 0.25) {
+                    fruitCell = board.index(getRow(), getColumn());
+                }
+                fruitTimer = TimeUnit.MILLISECONDS.toNanos(fruit.getSpawnGap());
+            }
+            chooseDirection();
+        }
+        int passed = Math.min(units, unitsToNextCell(direction));
+        move(direction, passed);
+        return passed;
+    }
+
+    /**
+     * decide about next direction: chase pacman if it is seen, otherwise wander randomly
+     */
+    private void chooseDirection() {
+        int exits = board.exitsFrom(getRow(), getColumn());
+        assert exits != 0;
+        if (pacmanDistances.isTracking() && random.nextDouble() < CHASE_CHANCE) {
+            direction = directionToPacman(exits);
+            return;
+        }
+        int forward = direction.mask();
+        if ((exits & forward) != 0 && (random.nextDouble() < 0.8 || exits == forward)) {
+            return;
+        }
+        exits &= ~forward;
+        int back = direction.getOpposite().mask();
+        if ((exits & back) != 0 && random.nextDouble() < 0.06 || Integer.bitCount(exits) == 1) {
+            direction = Integer.bitCount(exits) == 1 ?
+                        Direction.firstOf(exits) :
+                        direction.getOpposite();
+            return;
+        }
+        exits &= ~back;
+        direction = Integer.bitCount(exits) == 1 ?
+                    Direction.firstOf(exits) :
+                    Direction.nthOf(exits, random.nextBoolean() ? 0 : 1);
+    }
+
+    /**
+     * @return false if ghost has only started moving out of the cage
+     */
+    public boolean canCatch() {
+        return unitsToLeaveCage < DEATH_RADIUS;
+    }
+
+    /**
+     * @return index of a cell where ghost has left a fruit since the last call or -1
+     */
+    public int pollDroppedFruit() {
+        int cell = fruitCell;
+        fruitCell = -1;
+        return cell;
+    }
+
+    public void remove() {
+        isRemoved = true;
+    }
+
+    public boolean isRemoved() {
+        return isRemoved;
+    }
+
+    public boolean isInCage() {
+        return unitsToLeaveCage > 0;
+    }
+
+    public Fruit getFruit() {
+        return fruit;
+    }
+
+    /**
+     * @return exit to the cell nearest to pacman, ghost turns back only in a dead end
+     */
+    private Direction directionToPacman(int exits) {
+        int back = direction.getOpposite().mask();
+        if (exits != back) {
+            exits &= ~back;
+        }
+        int i = getRow();
+        int j = getColumn();
+        Direction best = Direction.firstOf(exits);
+        int minDistance = DistanceField.UNREACHABLE;
+        for (; exits != 0; exits &= exits - 1) {
+            var d = Direction.firstOf(exits);
+            int distance = switch (d) {
+                case LEFT -> pacmanDistances.distanceAt(i, j - 1);
+                case UP -> pacmanDistances.distanceAt(i - 1, j);
+                case RIGHT -> pacmanDistances.distanceAt(i, j + 1);
+                case DOWN -> pacmanDistances.distanceAt(i + 1, j);
+            };
+            if (distance < minDistance) {
+                minDistance = distance;
+                best = d;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "GHOST (" + fruit + ")";
+    }
+}
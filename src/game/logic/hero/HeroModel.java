@@ -0,0 +1,121 @@
+package game.logic.hero;
+
+import game.logic.Direction;
+import game.logic.board.Board;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Position and movement of a hero on a board.
+ * Position is a fixed-point number of cells: one cell consists of UNITS_PER_CELL units,
+ * so the movement does not depend on the size of a cell on the screen
+ */
+public abstract class HeroModel {
+
+    public static final int UNITS_PER_CELL;
+    /**
+     * distance at which ghost can kill pacman (units)
+     */
+    public static final int DEATH_RADIUS;
+    protected final Board board;
+    /**
+     * time to go through one cell (nanoseconds)
+     */
+    protected long cellTime;
+    protected Direction direction;
+    /**
+     * horizontal position
+     */
+    protected int x;
+    /**
+     * vertical position
+     */
+    protected int y;
+    /**
+     * time which is not spent on movement yet (nanoseconds multiplied by UNITS_PER_CELL),
+     * so no time is lost on rounding
+     */
+    private long elapsed;
+
+    static {
+        UNITS_PER_CELL = 256;
+        // ~4 pixels on a large cell
+        DEATH_RADIUS = UNITS_PER_CELL / 6;
+    }
+
+    /**
+     * @param timeToPassOneCell milliseconds
+     */
+    HeroModel(Board board, int timeToPassOneCell, Direction direction) {
+        this.board = board;
+        this.direction = direction;
+        this.cellTime = TimeUnit.MILLISECONDS.toNanos(timeToPassOneCell);
+    }
+
+    /**
+     * @param elapsedNanos time passed since the last call
+     * @return how many units hero must go through
+     */
+    public int consume(long elapsedNanos) {
+        elapsed += elapsedNanos * UNITS_PER_CELL;
+        int units = (int) (elapsed / cellTime);
+        elapsed -= units * cellTime;
+        return units;
+    }
+
+    protected void placeAt(int i, int j) {
+        x = j * UNITS_PER_CELL;
+        y = i * UNITS_PER_CELL;
+    }
+
+    protected void move(Direction direction, int units) {
+        switch (direction) {
+            case RIGHT -> x += units;
+            case LEFT -> x -= units;
+            case UP -> y -= units;
+            case DOWN -> y += units;
+        }
+    }
+
+    /**
+     * @return how many units are left till the hero is exactly in the next cell
+     */
+    protected int unitsToNextCell(Direction direction) {
+        return switch (direction) {
+            case RIGHT -> UNITS_PER_CELL - x % UNITS_PER_CELL;
+            case DOWN -> UNITS_PER_CELL - y % UNITS_PER_CELL;
+            case LEFT -> x % UNITS_PER_CELL == 0 ? UNITS_PER_CELL : x % UNITS_PER_CELL;
+            case UP -> y % UNITS_PER_CELL == 0 ? UNITS_PER_CELL : y % UNITS_PER_CELL;
+        };
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @return row of the cell where the top left corner of a hero is
+     */
+    public int getRow() {
+        return y / UNITS_PER_CELL;
+    }
+
+    /**
+     * @return column of the cell where the top left corner of a hero is
+     */
+    public int getColumn() {
+        return x / UNITS_PER_CELL;
+    }
+
+    public boolean isExactlyInCell() {
+        return x % UNITS_PER_CELL == 0 && y % UNITS_PER_CELL == 0;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+}
@@ -0,0 +1,95 @@
+package game.logic.hero;
+
+import game.logic.Direction;
+import game.logic.board.Board;
+
+public class PacmanModel extends HeroModel {
+    private final long slowCellTime;
+    private boolean isFast;
+    private boolean isFrozen;
+    /**
+     * index of a cell where pacman stops if direction is not changed
+     */
+    private int target;
+    /**
+     * direction which will be taken in the next cell
+     */
+    private Direction newDirection;
+    private int newTarget;
+    /**
+     * number of units passed by pacman, used to animate it
+     */
+    private int passedUnits;
+
+    public PacmanModel(Board board, int i, int j, Direction direction) {
+        super(board, 300, direction);
+        slowCellTime = cellTime;
+        placeAt(i, j);
+        target = board.findTarget(direction, i, j);
+    }
+
+    /**
+     * Moves pacman by the given number of units, but not further than the next cell
+     * @return number of units passed, 0 if pacman cannot move
+     */
+    public int step(int units) {
+        if (isFrozen) {
+            return 0;
+        }
+        if (isExactlyInCell() && board.index(getRow(), getColumn()) == target) {
+            isFrozen = true;
+            return 0;
+        }
+        int passed = Math.min(units, unitsToNextCell(direction));
+        move(direction, passed);
+        passedUnits += passed;
+        if (isExactlyInCell() && newDirection != null) {
+            direction = newDirection;
+            target = newTarget;
+            newDirection = null;
+        }
+        return passed;
+    }
+
+    /**
+     * Immediately changes direction (pacman must be exactly in cell
+     * or the new direction must be opposite to the current one)
+     */
+    public void turn(Direction direction, int target) {
+        this.direction = direction;
+        this.target = target;
+        newDirection = null;
+        isFrozen = false;
+    }
+
+    /**
+     * Changes direction as soon as pacman reaches the next cell
+     */
+    public void turnInNextCell(Direction direction, int target) {
+        newDirection = direction;
+        newTarget = target;
+    }
+
+    public void speedUp() {
+        if (!isFast) {
+            // 40% less time per cell
+            cellTime = slowCellTime * 3 / 5;
+            isFast = true;
+        }
+    }
+
+    public void slowDown() {
+        if (isFast) {
+            cellTime = slowCellTime;
+            isFast = false;
+        }
+    }
+
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    public int getPassedUnits() {
+        return passedUnits;
+    }
+}
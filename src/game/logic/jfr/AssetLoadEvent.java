@@ -0,0 +1,27 @@
+package game.logic.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pacman.AssetLoad")
+@Label("Asset Load")
+@Category({"Pacman", "Assets"})
+@StackTrace(false)
+public class AssetLoadEvent extends jdk.jfr.Event {
+    public static final String ATLAS = "atlas";
+    public static final String IMAGE = "image";
+    public static final String SOUND = "sound";
+
+    @Label("Path")
+    public String path;
+
+    @Label("Kind")
+    public String kind;
+
+    public AssetLoadEvent(String path, String kind) {
+        this.path = path;
+        this.kind = kind;
+    }
+}
@@ -0,0 +1,54 @@
+package game.logic.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Instant event of the game rules: a dot or a fruit is eaten, pacman dies or a round starts
+ */
+@Name("pacman.Gameplay")
+@Label("Gameplay")
+@Category({"Pacman", "Gameplay"})
+@StackTrace(false)
+public class GameplayEvent extends jdk.jfr.Event {
+    public static final String DOT_EATEN = "dot eaten";
+    public static final String FRUIT_EATEN = "fruit eaten";
+    public static final String PACMAN_DEATH = "pacman death";
+    public static final String ROUND_START = "round start";
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Detail")
+    public String detail;
+
+    @Label("Row")
+    public int row;
+
+    @Label("Column")
+    public int column;
+
+    @Label("Score")
+    public int score;
+
+    @Label("Lives")
+    public int lives;
+
+    /**
+     * Records the event if a recording is running, the detail is built only then
+     */
+    public static void emit(String kind, Object detail, int row, int column, int score, int lives) {
+        var event = new GameplayEvent();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.detail = detail == null ? null : detail.toString();
+            event.row = row;
+            event.column = column;
+            event.score = score;
+            event.lives = lives;
+            event.commit();
+        }
+    }
+}
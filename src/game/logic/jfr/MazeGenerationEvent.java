@@ -0,0 +1,23 @@
+package game.logic.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pacman.MazeGeneration")
+@Label("Maze Generation")
+@Category({"Pacman", "Board"})
+@StackTrace(false)
+public class MazeGenerationEvent extends jdk.jfr.Event {
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    public MazeGenerationEvent(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+}
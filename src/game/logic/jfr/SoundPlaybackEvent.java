@@ -0,0 +1,23 @@
+package game.logic.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("pacman.SoundPlayback")
+@Label("Sound Playback")
+@Category({"Pacman", "Audio"})
+@StackTrace(false)
+public class SoundPlaybackEvent extends jdk.jfr.Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Continuous")
+    public boolean isContinuous;
+
+    public SoundPlaybackEvent(String path, boolean isContinuous) {
+        this.path = path;
+        this.isContinuous = isContinuous;
+    }
+}
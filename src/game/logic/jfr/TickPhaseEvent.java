@@ -0,0 +1,32 @@
+package game.logic.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of one phase of a game tick. Events of the game are recorded with the JVM events,
+ * e.g. java -XX:StartFlightRecording=filename=pacman.jfr ..., and cost next to nothing
+ * when no recording is running
+ */
+@Name("pacman.TickPhase")
+@Label("Tick Phase")
+@Category({"Pacman", "Game Loop"})
+@Description("One phase of a game tick: input, movement, collision, effects or render")
+@StackTrace(false)
+public class TickPhaseEvent extends jdk.jfr.Event {
+    public static final String INPUT = "input";
+    public static final String MOVEMENT = "movement";
+    public static final String COLLISION = "collision";
+    public static final String EFFECTS = "effects";
+    public static final String RENDER = "render";
+
+    @Label("Phase")
+    public String phase;
+
+    public TickPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+}
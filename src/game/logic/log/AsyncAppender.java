@@ -0,0 +1,115 @@
+package game.logic.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Ring buffer of log records, which is written to the console by its own daemon thread.
+ * Appending only copies references into preallocated slots, and when the writer
+ * falls behind the newest records are dropped & counted instead of blocking the game.
+ * What is left in the buffer is written when the application exits
+ */
+class AsyncAppender {
+    private static final int CAPACITY;
+    private static final PrintStream out;
+    private static final Object lock;
+    private static final long[] times;                  // milliseconds
+    private static final Level[] levels;
+    private static final String[] loggers;
+    private static final String[] threads;
+    private static final String[] messages;
+    private static final Throwable[] causes;
+    private static long head;                           // index of the next record to write
+    private static long tail;                           // index of the next free slot
+    private static long dropped;
+
+    static {
+        CAPACITY = 1024;
+        out = System.out;
+        lock = new Object();
+        times = new long[CAPACITY];
+        levels = new Level[CAPACITY];
+        loggers = new String[CAPACITY];
+        threads = new String[CAPACITY];
+        messages = new String[CAPACITY];
+        causes = new Throwable[CAPACITY];
+        var writer = new Thread(AsyncAppender::run, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncAppender::drain, "log-flush"));
+    }
+
+    static void append(Level level, String logger, String message, Throwable cause) {
+        synchronized (lock) {
+            if (tail - head == CAPACITY) {
+                dropped += 1;
+                return;
+            }
+            int slot = (int) (tail % CAPACITY);
+            times[slot] = System.currentTimeMillis();
+            levels[slot] = level;
+            loggers[slot] = logger;
+            threads[slot] = Thread.currentThread().getName();
+            messages[slot] = message;
+            causes[slot] = cause;
+            tail += 1;
+            lock.notify();
+        }
+    }
+
+    private static void run() {
+        while (true) {
+            synchronized (lock) {
+                while (head == tail) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Writes all records of the buffer, the lock is held only to take a record
+     */
+    private static synchronized void drain() {
+        var zone = ZoneId.systemDefault();
+        while (true) {
+            long time;
+            Level level;
+            String logger, thread, message;
+            Throwable cause;
+            long lost;
+            synchronized (lock) {
+                if (head == tail) {
+                    return;
+                }
+                int slot = (int) (head % CAPACITY);
+                time = times[slot];
+                level = levels[slot];
+                logger = loggers[slot];
+                thread = threads[slot];
+                message = messages[slot];
+                cause = causes[slot];
+                messages[slot] = null;
+                causes[slot] = null;
+                head += 1;
+                lost = dropped;
+                dropped = 0;
+            }
+            if (lost > 0) {
+                out.println(lost + " log records are dropped, the buffer is full");
+            }
+            out.printf("%s %-5s [%s] %s - %s%n", LocalTime.ofInstant(Instant.ofEpochMilli(time), zone),
+                    level, thread, logger, message);
+            if (cause != null) {
+                cause.printStackTrace(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package game.logic.log;
+
+/**
+ * Importance of a log message, a logger writes messages of its level and above
+ */
+public enum Level {
+    TRACE,          // gameplay events: every fruit, ghost, maze dump
+    DEBUG,          // navigation between windows, settings
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
@@ -0,0 +1,88 @@
+package game.logic.log;
+
+import java.util.function.Supplier;
+
+/**
+ * Named logger. The level is taken from the property -Dpacman.log.&lt;name&gt;,
+ * otherwise from -Dpacman.log, INFO by default, so gameplay traces are off.
+ * Messages which are not enabled are not even built: they are given as suppliers.
+ * Enabled messages are put into the ring buffer of the appender, so the calling
+ * thread never waits for the console
+ */
+public class Logger {
+    private static final Level DEFAULT_LEVEL;
+    private final String name;
+    private final Level level;
+
+    static {
+        DEFAULT_LEVEL = parseLevel(System.getProperty("pacman.log"), Level.INFO);
+    }
+
+    private Logger(String name) {
+        this.name = name;
+        this.level = parseLevel(System.getProperty("pacman.log." + name), DEFAULT_LEVEL);
+    }
+
+    public static Logger of(Class<?> type) {
+        return new Logger(type.getSimpleName());
+    }
+
+    public boolean isEnabled(Level level) {
+        return level != Level.OFF && level.compareTo(this.level) >= 0;
+    }
+
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message, null);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable cause) {
+        log(Level.WARN, message, cause);
+    }
+
+    public void error(String message, Throwable cause) {
+        log(Level.ERROR, message, cause);
+    }
+
+    private void log(Level level, Supplier<String> message, Throwable cause) {
+        if (isEnabled(level)) {
+            AsyncAppender.append(level, name, message.get(), cause);
+        }
+    }
+
+    private void log(Level level, String message, Throwable cause) {
+        if (isEnabled(level)) {
+            AsyncAppender.append(level, name, message, cause);
+        }
+    }
+
+    private static Level parseLevel(String value, Level defaultLevel) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package game.logic.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of events, which may be counted by many threads at once
+ */
+public class Counter {
+    private final LongAdder count;
+
+    {
+        count = new LongAdder();
+    }
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+}
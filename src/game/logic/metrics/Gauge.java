@@ -0,0 +1,9 @@
+package game.logic.metrics;
+
+/**
+ * Value which is read when the metrics are shown, e.g. number of live threads
+ */
+@FunctionalInterface
+public interface Gauge {
+    long get();
+}
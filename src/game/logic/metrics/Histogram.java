@@ -0,0 +1,100 @@
+package game.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Distribution of durations (nanoseconds) over fixed buckets: every power of two
+ * is split into 4 buckets, so a percentile is off by less than 25%.
+ * Recording is one atomic increment and allocates nothing
+ */
+public class Histogram {
+
+    /**
+     * Counts of the buckets at some moment, the difference of two snapshots
+     * describes the durations recorded between them
+     */
+    public record Snapshot(long[] counts) {
+
+        public Snapshot minus(Snapshot earlier) {
+            var result = new long[counts.length];
+            for (int k = 0; k < counts.length; k++) {
+                result[k] = counts[k] - earlier.counts[k];
+            }
+            return new Snapshot(result);
+        }
+
+        public long getCount() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * @param quantile e.g. 0.99
+         * @return the upper bound (nanoseconds) of the bucket of the quantile, 0 if nothing is recorded
+         */
+        public long getPercentile(double quantile) {
+            long total = getCount();
+            if (total == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * total));
+            long passed = 0;
+            for (int k = 0; k < counts.length; k++) {
+                passed += counts[k];
+                if (passed >= target) {
+                    return upperBound(k);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+    }
+
+    private static final int SUB_BUCKETS_BITS;
+    private static final int BUCKETS;
+    private final AtomicLongArray counts;
+
+    static {
+        SUB_BUCKETS_BITS = 2;
+        BUCKETS = 42 << SUB_BUCKETS_BITS;           // up to 2^42 ns ~ 73 min
+    }
+
+    {
+        counts = new AtomicLongArray(BUCKETS);
+    }
+
+    Histogram() {
+    }
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+    }
+
+    public Snapshot snapshot() {
+        var copy = new long[BUCKETS];
+        for (int k = 0; k < BUCKETS; k++) {
+            copy[k] = counts.get(k);
+        }
+        return new Snapshot(copy);
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < 1 << SUB_BUCKETS_BITS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKETS_BITS)) & ((1 << SUB_BUCKETS_BITS) - 1);
+        return Math.min(BUCKETS - 1, (exponent << SUB_BUCKETS_BITS) + sub);
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < 1 << SUB_BUCKETS_BITS) {
+            return bucket;
+        }
+        int exponent = bucket >> SUB_BUCKETS_BITS;
+        int sub = bucket & ((1 << SUB_BUCKETS_BITS) - 1);
+        return (((1L << SUB_BUCKETS_BITS) + sub + 1) << (exponent - SUB_BUCKETS_BITS)) - 1;
+    }
+}
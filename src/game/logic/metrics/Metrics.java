@@ -0,0 +1,82 @@
+package game.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of named counters, gauges & histograms.
+ * Parts of the game take their metrics once and report into them,
+ * the performance overlay reads them by name.
+ * Names used by the game:
+ * loop.tick, loop.frame, render.frame, render.paint (histograms), render.frames, audio.sounds (counters),
+ * jvm.threads, jvm.allocated, actors, audio.voices, audio.underruns (gauges)
+ */
+public class Metrics {
+    private static final Map<String, Counter> counters;
+    private static final Map<String, Gauge> gauges;
+    private static final Map<String, Histogram> histograms;
+    /**
+     * bytes allocated by each live thread when jvm.allocated was read the last time
+     */
+    private static Map<Long, Long> threadAllocated;
+    private static long allocated;
+
+    static {
+        counters = new ConcurrentHashMap<>();
+        gauges = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
+        threadAllocated = new HashMap<>();
+        gauge("jvm.threads", () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            gauge("jvm.allocated", () -> getAllocatedBytes(threads));
+        }
+    }
+
+    /**
+     * @return bytes allocated since the first read, it never decreases:
+     * a thread which has ended keeps the bytes counted while it was alive
+     */
+    private static synchronized long getAllocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long[] ids = threads.getAllThreadIds();
+        long[] bytes = threads.getThreadAllocatedBytes(ids);
+        var live = new HashMap<Long, Long>(2 * ids.length);
+        for (int k = 0; k < ids.length; k++) {
+            if (bytes[k] < 0) {
+                // the thread has ended after its id was taken
+                continue;
+            }
+            long previous = threadAllocated.getOrDefault(ids[k], 0L);
+            allocated += Math.max(0, bytes[k] - previous);
+            live.put(ids[k], Math.max(previous, bytes[k]));
+        }
+        threadAllocated = live;
+        return allocated;
+    }
+
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new Histogram());
+    }
+
+    /**
+     * Registers the gauge, it replaces a gauge of the same name, e.g. of the previous board
+     */
+    public static void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * @return value of the gauge or -1 if there is no such gauge
+     */
+    public static long read(String name) {
+        var gauge = gauges.get(name);
+        return gauge == null ? -1 : gauge.get();
+    }
+}
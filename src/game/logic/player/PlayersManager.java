@@ -3,12 +3,18 @@ package game.logic.player;
 import game.gui.utils.UIUtils;
 import game.logic.exception.DataLoadingException;
 import game.logic.exception.GameException;
+import game.logic.log.Logger;
+import game.logic.metrics.Histogram;
+import game.logic.metrics.Metrics;
 
 import java.io.*;
 import java.net.URISyntaxException;
 import java.util.*;
 
 public class PlayersManager implements Serializable {
+    private static final Logger log;
+    private static final Histogram saveTime;
+    private static final Histogram loadTime;
     private static final String PLAYERS_DATA_FILE_LOCATION;
     /**
      * All played and their best scores.
@@ -18,6 +24,9 @@ public class PlayersManager implements Serializable {
     private static PlayersManager instance;
 
     static {
+        log = Logger.of(PlayersManager.class);
+        saveTime = Metrics.histogram("players.save");
+        loadTime = Metrics.histogram("players.load");
         instance = null;
     }
 
@@ -77,7 +86,7 @@ public class PlayersManager implements Serializable {
             throw new GameException("Cannot update non-existing player");
         } else {
             if (players.get(nickname) < score) {
-                System.out.println("Player " + nickname + " has beat his last best score");
+                log.info(() -> "Player " + nickname + " has beaten their best score");
                 players.replace(nickname, score);
             }
         }
@@ -85,6 +94,7 @@ public class PlayersManager implements Serializable {
 
     // save players map via serialization
     public void savePlayers() {
+        long start = System.nanoTime();
         try {
             var os = getClass().getResource(PLAYERS_DATA_FILE_LOCATION);
             assert os != null;
@@ -92,31 +102,29 @@ public class PlayersManager implements Serializable {
             oos.writeObject(players);
             oos.flush();
             oos.close();
-            System.out.println("Players are saved to file");
+            log.info("Players are saved to file");
         } catch (IOException | URISyntaxException e) {
             throw new RuntimeException(e);
+        } finally {
+            saveTime.record(System.nanoTime() - start);
         }
     }
 
     // load players map via serialization
     private void loadPlayers() throws DataLoadingException {
+        long start = System.nanoTime();
         try {
             var is = getClass().getResourceAsStream(PLAYERS_DATA_FILE_LOCATION);
             ObjectInputStream ois = new ObjectInputStream(is);
             players = (Map<String, Integer>) ois.readObject();
-            System.out.println("Players are loaded from file: ");
-            for (var entry : players.entrySet()) {
-                System.out.println(entry.getKey() + " - " + entry.getValue());
-            }
-            if (players.isEmpty()) {
-                System.out.println("<empty>");
-            }
+            log.info(() -> "Players are loaded from file: " + (players.isEmpty() ? "<empty>" : players));
             ois.close();
         } catch (Exception e) {
             players = null;
-            System.out.println("Failed to load players data. Cause: " + e.getClass().getCanonicalName()
-                    + " message: " + e.getMessage());
+            log.warn("Failed to load players data", e);
             throw new DataLoadingException("Failed to load players data. Your best score won't be saved");
+        } finally {
+            loadTime.record(System.nanoTime() - start);
         }
     }
 